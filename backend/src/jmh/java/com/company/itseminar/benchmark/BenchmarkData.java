@@ -0,0 +1,76 @@
+package com.company.itseminar.benchmark;
+
+import com.company.itseminar.dto.FileAttachmentDto;
+import com.company.itseminar.entity.Category;
+import com.company.itseminar.entity.FileAttachment;
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// 벤치마크용 엔티티 (DB 없이 목록 응답과 비슷한 모양으로 생성, 한글 제목/설명 포함)
+final class BenchmarkData {
+
+    private static final String[] TOPICS = {"Spring Boot 3.x 신기능 소개", "PostgreSQL 성능 튜닝 실무", "Kubernetes 운영 트러블슈팅",
+            "React 18 동시성 기능 활용", "클린 코드와 리팩토링", "LLM 기반 사내 검색 도입기"};
+    private static final String DESCRIPTION = "이번 세미나에서는 실제 프로젝트에 적용하면서 겪은 문제와 해결 과정을 공유합니다. " +
+            "사전 지식이 없어도 참여할 수 있으며, 발표 후 질의응답 시간이 준비되어 있습니다. 노트북을 지참해주세요.";
+
+    private BenchmarkData() {
+    }
+
+    // 세미나 3개 중 1개는 첨부파일 2개
+    static List<Seminar> seminars(int count) {
+        Random random = new Random(42);
+        User admin = new User("admin", "{noop}admin123", "관리자", "admin@company.com", "IT팀", User.Role.ADMIN);
+        admin.setId(UUID.randomUUID());
+        Category category = new Category("프로그래밍", "프로그래밍 언어 및 기술", "code", "#3B82F6");
+        category.setId(UUID.randomUUID());
+        category.setDisplayOrder(1);
+        category.setIsActive(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Seminar> seminars = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Seminar seminar = new Seminar(TOPICS[i % TOPICS.length] + " #" + (i + 1), DESCRIPTION,
+                    now.plusDays(random.nextInt(60) - 10).withHour(14), "대회의실", admin, category);
+            seminar.setId(UUID.randomUUID());
+            seminar.setIsClosed(false);
+            seminar.setCapacity(i % 4 == 0 ? null : 50);
+            seminar.setAdmissionQueue(false);
+            List<FileAttachment> attachments = new ArrayList<>();
+            if (i % 3 == 0) {
+                attachments.add(attachment(seminar, "발표자료.pdf", "application/pdf", 2_400_000L));
+                attachments.add(attachment(seminar, "예제코드.zip", "application/zip", 830_000L));
+            }
+            seminar.setAttachments(attachments);
+            seminars.add(seminar);
+        }
+        return seminars;
+    }
+
+    // 목록 조회에서 GROUP BY로 구한 카테고리의 세미나 수 (모든 세미나가 한 카테고리)
+    static Long categorySeminarCount(List<Seminar> seminars) {
+        return (long) seminars.size();
+    }
+
+    // 목록 조회에서 일괄 조회한 첨부파일 메타데이터
+    static List<FileAttachmentDto> attachmentDtos(Seminar seminar) {
+        List<FileAttachmentDto> dtos = new ArrayList<>();
+        for (FileAttachment attachment : seminar.getAttachments()) {
+            dtos.add(new FileAttachmentDto(attachment.getId(), seminar.getId(), attachment.getFileName(),
+                    attachment.getContentType(), attachment.getFileSize(), attachment.getUploadedAt()));
+        }
+        return dtos;
+    }
+
+    private static FileAttachment attachment(Seminar seminar, String fileName, String contentType, long size) {
+        FileAttachment attachment = new FileAttachment(seminar, fileName, contentType, size, null);
+        attachment.setId(UUID.randomUUID());
+        return attachment;
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.itseminar.benchmark;
+
+import com.company.itseminar.dto.CategoryDto;
+import com.company.itseminar.dto.FileAttachmentDto;
+import com.company.itseminar.dto.SeminarDto;
+import com.company.itseminar.dto.UserDto;
+import com.company.itseminar.entity.Seminar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답의 DTO 변환 비용 (size: 한 페이지 20개 / 전체 목록 수준 1000개)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private List<Seminar> seminars;
+    private List<List<FileAttachmentDto>> attachments;
+    private Long categorySeminarCount;
+    private List<SeminarDto> cached;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        seminars = BenchmarkData.seminars(size);
+        categorySeminarCount = BenchmarkData.categorySeminarCount(seminars);
+        attachments = new ArrayList<>(size);
+        cached = new ArrayList<>(size);
+        for (Seminar seminar : seminars) {
+            attachments.add(BenchmarkData.attachmentDtos(seminar));
+            cached.add(new SeminarDto(seminar));
+        }
+    }
+
+    // 상세 조회 방식 (엔티티의 첨부파일 컬렉션에서 변환)
+    @Benchmark
+    public List<SeminarDto> seminarDtoFromEntity() {
+        List<SeminarDto> dtos = new ArrayList<>(size);
+        for (Seminar seminar : seminars) {
+            dtos.add(new SeminarDto(seminar));
+        }
+        return dtos;
+    }
+
+    // 목록 조회 방식 (일괄 조회한 첨부파일 DTO 사용)
+    @Benchmark
+    public List<SeminarDto> seminarDtoWithBatchAttachments() {
+        List<SeminarDto> dtos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dtos.add(new SeminarDto(seminars.get(i), attachments.get(i), categorySeminarCount));
+        }
+        return dtos;
+    }
+
+    // 카탈로그 캐시 적중 시 요청별 복사
+    @Benchmark
+    public List<SeminarDto> copyCachedSeminarDto() {
+        List<SeminarDto> dtos = new ArrayList<>(size);
+        for (SeminarDto base : cached) {
+            SeminarDto dto = new SeminarDto(base);
+            dto.setUserApplied(false);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public void userAndCategoryDto(Blackhole blackhole) {
+        for (Seminar seminar : seminars) {
+            blackhole.consume(new UserDto(seminar.getCreatedBy()));
+            blackhole.consume(new CategoryDto(seminar.getCategory(), null));
+        }
+    }
+
+    @Benchmark
+    public void fileAttachmentDto(Blackhole blackhole) {
+        for (Seminar seminar : seminars) {
+            seminar.getAttachments().forEach(attachment -> blackhole.consume(new FileAttachmentDto(attachment)));
+        }
+    }
+}
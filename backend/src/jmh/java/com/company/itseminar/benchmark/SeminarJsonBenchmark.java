@@ -0,0 +1,95 @@
+package com.company.itseminar.benchmark;
+
+import com.company.itseminar.dto.FileAttachmentDto;
+import com.company.itseminar.dto.SeminarDto;
+import com.company.itseminar.entity.Seminar;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 세미나 목록 응답의 Jackson 직렬화 (LocalDateTime, 한글 문자열 포함)
+// ObjectMapper는 Spring Boot와 같은 기본값(JavaTimeModule, 날짜를 ISO 문자열로)으로 구성
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeminarJsonBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<Seminar> entities;
+    private List<List<FileAttachmentDto>> attachments;
+    private Long categorySeminarCount;
+    private List<SeminarDto> seminars;
+    private Map<String, Object> pageResponse;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, SeminarDto.class));
+        entities = BenchmarkData.seminars(size);
+        attachments = entities.stream().map(BenchmarkData::attachmentDtos).collect(Collectors.toList());
+        categorySeminarCount = BenchmarkData.categorySeminarCount(entities);
+        seminars = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            seminars.add(new SeminarDto(entities.get(i), attachments.get(i), categorySeminarCount));
+        }
+        // 키셋 페이지 응답 모양
+        pageResponse = Map.of("content", seminars, "nextCursor", "MjAyNi0xMC0xOFQxNDowMHw", "hasNext", true);
+        json = listWriter.writeValueAsBytes(seminars);
+    }
+
+    // HTTP 응답처럼 스트림에 기록
+    @Benchmark
+    public int serializeList() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        listWriter.writeValue(out, seminars);
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    @Benchmark
+    public String serializeListToString() throws IOException {
+        return listWriter.writeValueAsString(seminars);
+    }
+
+    // 엔티티 → DTO → JSON 전체 경로
+    @Benchmark
+    public byte[] mapAndSerialize() throws IOException {
+        List<SeminarDto> dtos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dtos.add(new SeminarDto(entities.get(i), attachments.get(i), categorySeminarCount));
+        }
+        return listWriter.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.itseminar.benchmark;
+
+import com.company.itseminar.entity.Seminar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 세미나 DTO마다 호출되는 마감/취소 가능 시간 확인 (LocalDateTime.now() 호출 포함)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeminarTimeCheckBenchmark {
+
+    private Seminar seminar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        seminar = BenchmarkData.seminars(1).get(0);
+    }
+
+    @Benchmark
+    public boolean isExpired() {
+        return seminar.isExpired();
+    }
+
+    @Benchmark
+    public boolean isCancellationAllowed() {
+        return seminar.isCancellationAllowed();
+    }
+
+    // SeminarDto 생성자와 같은 조합
+    @Benchmark
+    public boolean closedAndCancelCheck() {
+        boolean closed = seminar.getIsClosed() || seminar.isExpired();
+        return seminar.isCancellationAllowed() && !closed;
+    }
+}
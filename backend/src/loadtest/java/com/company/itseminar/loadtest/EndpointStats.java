@@ -0,0 +1,75 @@
+package com.company.itseminar.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간 분포(마이크로초)와 상태 코드 집계
+// 응답 시간은 요청을 보내기로 예정된 시각부터 측정한다 (클라이언트 쪽 대기도 포함해 coordinated omission 방지)
+class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    // status: HTTP 상태 코드 (연결 실패/타임아웃은 failure로 따로 집계)
+    void record(long intendedStartNanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        histogram.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long serverErrors() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 500)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    static String header() {
+        return String.format("%-28s %8s %9s %9s %9s %9s %9s %9s  %s",
+                "endpoint", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "status");
+    }
+
+    String format(double elapsedSeconds) {
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        String statusText = statusCounts.toString() + (failures() > 0 ? " failed=" + failures() : "");
+        return String.format("%-28s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s",
+                name, count(), count() / elapsedSeconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                statusText);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.itseminar.loadtest;
+
+import com.company.itseminar.ItSeminarApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하/동시성 검사 공통 실행 환경
+// 내장 PostgreSQL(또는 지정한 DB)로 datagen 프로필 애플리케이션을 띄워 시나리오를 실행하고, 정리한 뒤 시나리오의 종료 코드로 종료한다.
+// 옵션은 key=value 형식, --로 시작하는 인자는 애플리케이션에 그대로 전달 (예: --spring.datasource.hikari.maximum-pool-size=20)
+final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    interface Scenario {
+
+        int run(ConfigurableApplicationContext context) throws Exception;
+    }
+
+    // datagenArgs: 하네스별 데이터 생성 설정 (--seminar.datagen.users 등)
+    static void launch(Options options, List<String> datagenArgs, Scenario scenario) throws Exception {
+        EmbeddedPostgres embedded = null;
+        ConfigurableApplicationContext context = null;
+        int exitCode;
+        try {
+            String jdbcUrl = options.db;
+            if ("embedded".equals(options.db)) {
+                System.out.println("내장 PostgreSQL 시작...");
+                embedded = EmbeddedPostgres.builder().start();
+                jdbcUrl = embedded.getJdbcUrl("postgres", "postgres");
+            }
+            context = startApplication(options, jdbcUrl, datagenArgs);
+            exitCode = scenario.run(context);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(Options options, String jdbcUrl, List<String> datagenArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + options.dbUser,
+                "--spring.datasource.password=" + options.dbPassword,
+                // 사용자/세미나 적재는 대량 데이터 생성기 사용 (생성 후 종료하지 않고 웹 서버 유지)
+                "--spring.profiles.active=datagen",
+                "--spring.main.web-application-type=servlet",
+                "--seminar.datagen.exit-when-done=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.company.itseminar=WARN"));
+        args.addAll(datagenArgs);
+        args.addAll(options.applicationArgs);
+
+        long started = System.nanoTime();
+        ConfigurableApplicationContext context = SpringApplication.run(ItSeminarApplication.class, args.toArray(new String[0]));
+        System.out.printf("애플리케이션 기동 완료 (%.1fs)%n", (System.nanoTime() - started) / 1e9);
+        return context;
+    }
+
+    static String username(int index) {
+        return String.format("gen%06d", index + 1);
+    }
+
+    static boolean check(String name, boolean passed, String detail) {
+        System.out.printf("  [%s] %s (%s)%n", passed ? "OK" : "FAIL", name, detail);
+        return passed;
+    }
+
+    // 공통 옵션 (DB 연결, 제한 시간, 난수 시드), 하네스별 옵션은 하위 클래스의 option()에서 처리
+    static class Options {
+
+        // embedded 또는 JDBC URL (전용 빈 데이터베이스 사용)
+        String db = "embedded";
+        String dbUser = "postgres";
+        String dbPassword = "postgres";
+        long timeoutSeconds = 300;
+        long seed = 42;
+        List<String> applicationArgs = new ArrayList<>();
+
+        // 처리한 옵션이면 true
+        boolean option(String key, String value) {
+            return false;
+        }
+
+        static <T extends Options> T parse(T options, String[] args) {
+            for (String arg : args) {
+                if (arg.startsWith("--")) {
+                    options.applicationArgs.add(arg);
+                    continue;
+                }
+                String[] pair = arg.split("=", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+                }
+                String value = pair[1];
+                switch (pair[0]) {
+                    case "db" -> options.db = value;
+                    case "db-user" -> options.dbUser = value;
+                    case "db-password" -> options.dbPassword = value;
+                    case "timeout-seconds" -> options.timeoutSeconds = Long.parseLong(value);
+                    case "seed" -> options.seed = Long.parseLong(value);
+                    default -> {
+                        if (!options.option(pair[0], value)) {
+                            throw new IllegalArgumentException("알 수 없는 옵션: " + pair[0]);
+                        }
+                    }
+                }
+            }
+            return options;
+        }
+    }
+}
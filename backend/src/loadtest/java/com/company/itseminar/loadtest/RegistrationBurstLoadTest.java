@@ -0,0 +1,336 @@
+package com.company.itseminar.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 신청 오픈 폭주 부하 테스트
+// 1) LoadTestHarness로 애플리케이션을 띄우고 datagen 프로필로 사용자/세미나를 적재
+// 2) 관리자 API로 정원이 있는 "신청 오픈" 세미나를 만든 뒤
+// 3) users명이 ramp-seconds 동안 고르게 도착해 로그인 → 목록 → 상세 → 신청 (대기열 모드면 대기표 확정까지 폴링)
+//    같은 시간 동안 browsers명은 목록/상세를 일정 간격으로 반복 조회
+// 4) 엔드포인트별 HdrHistogram 응답 시간 분포/처리량과 정합성 검사(중복 신청, 정원 초과, 신청자 수) 결과를 출력
+// 옵션 형식은 LoadTestHarness 참고
+public class RegistrationBurstLoadTest {
+
+    private static final String PASSWORD = "user123";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Options options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final EndpointStats loginStats = new EndpointStats("POST /api/auth/login");
+    private final EndpointStats listStats = new EndpointStats("GET /api/seminars");
+    private final EndpointStats detailStats = new EndpointStats("GET /api/seminars/{id}");
+    private final EndpointStats applyStats = new EndpointStats("POST /api/applications");
+    private final EndpointStats ticketStats = new EndpointStats("GET /api/applications/queue");
+    // 대기열 모드: 신청 요청부터 대기표 처리 완료까지
+    private final EndpointStats queuedApplyStats = new EndpointStats("apply -> queue DONE");
+
+    private final Map<String, LongAdder> applyOutcomes = new ConcurrentHashMap<>();
+    private final LongAdder appliedCount = new LongAdder();
+    private final AtomicBoolean burstDone = new AtomicBoolean();
+
+    private String baseUrl;
+    private UUID hotSeminarId;
+    private String executorName;
+
+    RegistrationBurstLoadTest(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = LoadTestHarness.Options.parse(new Options(), args);
+        LoadTestHarness.launch(options, List.of(
+                "--seminar.datagen.users=" + (options.users + options.browsers),
+                "--seminar.datagen.seminars=" + options.seminars,
+                "--seminar.datagen.applications=" + options.backgroundApplications),
+                context -> new RegistrationBurstLoadTest(options).run(context));
+    }
+
+    private int run(ConfigurableApplicationContext context) throws Exception {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        Long generatedUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username LIKE 'gen%'", Long.class);
+        if (generatedUsers == null || generatedUsers < options.users + options.browsers) {
+            System.out.printf("생성된 사용자가 부족합니다 (%d < %d). 빈 데이터베이스로 다시 실행해주세요.%n",
+                    generatedUsers, options.users + options.browsers);
+            return 2;
+        }
+        hotSeminarId = createHotSeminar();
+
+        ExecutorService executor = newExecutor();
+        long burstStart = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        long rampNanos = TimeUnit.SECONDS.toNanos(options.rampSeconds);
+        CountDownLatch applicants = new CountDownLatch(options.users);
+        CountDownLatch browsers = new CountDownLatch(options.browsers);
+
+        // 도착 시각은 램프 구간 안에서 균등 분포, 시작 시각 순으로 제출 (플랫폼 스레드 풀에서도 순서대로 실행되도록)
+        Random random = new Random(options.seed);
+        long[] arrivals = new long[options.users];
+        for (int i = 0; i < options.users; i++) {
+            arrivals[i] = burstStart + (long) (random.nextDouble() * rampNanos);
+        }
+        Arrays.sort(arrivals);
+        for (int i = 0; i < options.browsers; i++) {
+            VirtualUser user = new VirtualUser(client, baseUrl, LoadTestHarness.username(options.users + i));
+            long offset = (long) (random.nextDouble() * TimeUnit.MILLISECONDS.toNanos(options.browseIntervalMillis));
+            executor.execute(() -> {
+                try {
+                    browse(user, burstStart + offset);
+                } finally {
+                    browsers.countDown();
+                }
+            });
+        }
+        for (int i = 0; i < options.users; i++) {
+            VirtualUser user = new VirtualUser(client, baseUrl, LoadTestHarness.username(i));
+            long arrival = arrivals[i];
+            executor.execute(() -> {
+                try {
+                    applyScenario(user, arrival);
+                } finally {
+                    applicants.countDown();
+                }
+            });
+        }
+
+        boolean finished = applicants.await(options.timeoutSeconds, TimeUnit.SECONDS);
+        burstDone.set(true);
+        browsers.await(30, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - burstStart) / 1e9;
+        executor.shutdownNow();
+
+        printReport(elapsedSeconds, finished);
+        return checkConsistency(jdbcTemplate) && finished ? 0 : 1;
+    }
+
+    private UUID createHotSeminar() throws IOException {
+        VirtualUser admin = new VirtualUser(client, baseUrl, "admin");
+        EndpointStats setup = new EndpointStats("setup");
+        if (!admin.login("admin123", setup, System.nanoTime())) {
+            throw new IllegalStateException("관리자 로그인 실패");
+        }
+        Map<String, Object> request = new HashMap<>();
+        request.put("title", "[부하 테스트] 신청 오픈 세미나");
+        request.put("description", "신청 폭주 부하 테스트용 세미나입니다.");
+        request.put("date", LocalDateTime.now().plusDays(7).withNano(0).toString());
+        request.put("location", "대회의실");
+        request.put("capacity", options.capacity);
+        request.put("admissionQueue", options.queue);
+        VirtualUser.Response response = admin.createSeminar(objectMapper.writeValueAsString(request), setup, System.nanoTime());
+        if (response == null || response.getStatus() != 200) {
+            throw new IllegalStateException("세미나 생성 실패: " + (response == null ? "연결 실패" : response.getBody()));
+        }
+        return UUID.fromString(objectMapper.readTree(response.getBody()).get("id").asText());
+    }
+
+    // 신청 사용자: 로그인 → 목록 → 상세 → 신청 (요청 사이 대기 없음)
+    private void applyScenario(VirtualUser user, long arrival) {
+        sleepUntil(arrival);
+        if (!user.login(PASSWORD, loginStats, arrival)) {
+            outcome("로그인 실패");
+            return;
+        }
+        user.listSeminars(listStats, System.nanoTime());
+        user.seminarDetail(hotSeminarId, detailStats, System.nanoTime());
+
+        long applyStart = System.nanoTime();
+        VirtualUser.Response response = user.apply(hotSeminarId, applyStats, applyStart);
+        if (response == null) {
+            outcome("연결 실패");
+            return;
+        }
+        if (response.getStatus() == 202) {
+            waitForTicket(user, response, applyStart);
+            return;
+        }
+        JsonNode body = readBody(response);
+        if (response.getStatus() == 200 && body.path("success").asBoolean()) {
+            appliedCount.increment();
+        }
+        outcome(response.getStatus() + " " + body.path("message").asText(""));
+    }
+
+    // 대기표 처리 완료까지 Retry-After 간격(최대 2초)으로 폴링
+    private void waitForTicket(VirtualUser user, VirtualUser.Response accepted, long applyStart) {
+        String ticketId = readBody(accepted).path("ticketId").asText();
+        VirtualUser.Response response = accepted;
+        while (!burstDone.get()) {
+            long retryAfter = response.header("Retry-After").map(Long::parseLong).orElse(1L);
+            sleepUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.min(2, Math.max(1, retryAfter))));
+            response = user.queueTicket(ticketId, ticketStats, System.nanoTime());
+            if (response == null) {
+                outcome("연결 실패");
+                return;
+            }
+            JsonNode body = readBody(response);
+            if ("DONE".equals(body.path("status").asText())) {
+                queuedApplyStats.record(applyStart, response.getStatus());
+                if (body.path("success").asBoolean()) {
+                    appliedCount.increment();
+                }
+                outcome("대기열 " + body.path("message").asText(""));
+                return;
+            }
+        }
+        outcome("대기열 시간 초과");
+    }
+
+    // 탐색 사용자: 목록/상세를 browse-interval-ms 간격으로 반복 (예정 시각 기준 측정)
+    private void browse(VirtualUser user, long start) {
+        long interval = TimeUnit.MILLISECONDS.toNanos(options.browseIntervalMillis);
+        sleepUntil(start);
+        if (!user.login(PASSWORD, loginStats, start)) {
+            return;
+        }
+        long next = System.nanoTime();
+        for (int i = 0; !burstDone.get(); i++) {
+            sleepUntil(next);
+            if (i % 2 == 0) {
+                user.listSeminars(listStats, next);
+            } else {
+                user.seminarDetail(hotSeminarId, detailStats, next);
+            }
+            next += interval;
+        }
+    }
+
+    private boolean checkConsistency(JdbcTemplate jdbcTemplate) {
+        long duplicates = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM seminar_applications " +
+                "GROUP BY user_id, seminar_id HAVING COUNT(*) > 1) d", Long.class);
+        long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seminar_applications WHERE seminar_id = ?",
+                Long.class, hotSeminarId);
+        long applicationCount = jdbcTemplate.queryForObject("SELECT application_count FROM seminars WHERE id = ?",
+                Long.class, hotSeminarId);
+        long succeeded = appliedCount.sum();
+        long errors = applyStats.serverErrors() + applyStats.failures();
+
+        System.out.println("정합성 검사:");
+        boolean ok = LoadTestHarness.check("중복 신청 없음", duplicates == 0, duplicates + "건");
+        ok &= LoadTestHarness.check("신청 수 <= 정원", rows <= options.capacity, rows + " <= " + options.capacity);
+        ok &= LoadTestHarness.check("신청자 수 = 신청 행 수", applicationCount == rows, applicationCount + " = " + rows);
+        ok &= LoadTestHarness.check("성공 응답 수 = 신청 행 수", succeeded == rows, succeeded + " = " + rows);
+        if (options.users >= options.capacity && errors == 0) {
+            ok &= LoadTestHarness.check("수요가 정원 이상이면 정원 소진", rows == options.capacity, rows + " = " + options.capacity);
+        }
+        return ok;
+    }
+
+    private void printReport(double elapsedSeconds, boolean finished) {
+        List<EndpointStats> all = List.of(loginStats, listStats, detailStats, applyStats, ticketStats, queuedApplyStats);
+        long total = all.stream().filter(stats -> stats != queuedApplyStats).mapToLong(EndpointStats::count).sum();
+
+        System.out.println();
+        System.out.println("== 신청 폭주 부하 테스트 결과 ==");
+        System.out.printf("신청 사용자 %d명 / 램프 %d초 / 정원 %d / 대기열 %s / 탐색 사용자 %d명 / 실행기 %s%n",
+                options.users, options.rampSeconds, options.capacity, options.queue, options.browsers, executorName);
+        System.out.printf("경과 %.1fs, 전체 처리량 %.1f req/s%s%n", elapsedSeconds, total / elapsedSeconds,
+                finished ? "" : " (시간 초과로 중단)");
+        System.out.println(EndpointStats.header());
+        for (EndpointStats stats : all) {
+            if (stats.count() > 0 || stats.failures() > 0) {
+                System.out.println(stats.format(elapsedSeconds));
+            }
+        }
+        Map<String, Long> outcomes = new TreeMap<>();
+        applyOutcomes.forEach((outcome, count) -> outcomes.put(outcome, count.sum()));
+        System.out.println("신청 결과: " + outcomes);
+    }
+
+    private void outcome(String outcome) {
+        applyOutcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    private static JsonNode readBody(VirtualUser.Response response) {
+        try {
+            return objectMapper.readTree(response.getBody());
+        } catch (IOException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long delay = nanoTime - System.nanoTime();
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Java 21 이상이면 가상 스레드(요청마다 스레드), 아니면 threads 크기의 플랫폼 스레드 풀
+    // (풀이 부족해 늦게 시작한 요청도 예정 시각부터 측정하므로 지연이 가려지지 않음)
+    private ExecutorService newExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            executorName = "virtual threads";
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            executorName = "platform threads(" + options.threads + ")";
+            return Executors.newFixedThreadPool(options.threads);
+        }
+    }
+
+    static class Options extends LoadTestHarness.Options {
+
+        int users = 5000;
+        int rampSeconds = 10;
+        int capacity = 500;
+        boolean queue = false;
+        int browsers = 200;
+        long browseIntervalMillis = 500;
+        int seminars = 500;
+        long backgroundApplications = 0;
+        int threads = 2000;
+
+        Options() {
+            timeoutSeconds = 600;
+        }
+
+        @Override
+        boolean option(String key, String value) {
+            switch (key) {
+                case "users" -> users = Integer.parseInt(value);
+                case "ramp-seconds" -> rampSeconds = Integer.parseInt(value);
+                case "capacity" -> capacity = Integer.parseInt(value);
+                case "queue" -> queue = Boolean.parseBoolean(value);
+                case "browsers" -> browsers = Integer.parseInt(value);
+                case "browse-interval-ms" -> browseIntervalMillis = Long.parseLong(value);
+                case "seminars" -> seminars = Integer.parseInt(value);
+                case "background-applications" -> backgroundApplications = Long.parseLong(value);
+                case "threads" -> threads = Integer.parseInt(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
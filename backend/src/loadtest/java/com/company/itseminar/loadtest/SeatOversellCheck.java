@@ -0,0 +1,214 @@
+package com.company.itseminar.loadtest;
+
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.repository.SeminarRepository;
+import com.company.itseminar.repository.UserRepository;
+import com.company.itseminar.service.BatchApplicationService;
+import com.company.itseminar.service.SeminarRegistrationService;
+import com.company.itseminar.service.SeminarRegistrationService.ApplyResult;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 정원 초과 신청(oversell) 동시성 검사
+// 1) LoadTestHarness로 애플리케이션을 띄우고 datagen 프로필로 사용자를 적재
+// 2) 라운드마다 정원이 있는 세미나 여러 개를 만들고, users명이 한 시점에 동시에 출발해
+//    개별 신청(SeminarRegistrationService), 일괄 신청(BatchApplicationService), 신청 직후 취소를 섞어 같은 좌석을 두고 경쟁
+// 3) 세미나마다 신청 행 수 <= 정원, application_count = 신청 행 수, (성공 - 취소) = 신청 행 수, 중복 신청 없음을 검사
+// HTTP를 거치지 않고 서비스를 직접 호출해 좌석 확보 SQL 자체의 경쟁을 최대한 좁은 시간에 몰아넣는다.
+// 검사에 실패하면 0이 아닌 코드로 종료한다. 옵션 형식은 LoadTestHarness 참고.
+public class SeatOversellCheck {
+
+    private final Options options;
+
+    private SeminarRegistrationService registrationService;
+    private BatchApplicationService batchApplicationService;
+    private UserRepository userRepository;
+    private SeminarRepository seminarRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    SeatOversellCheck(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = LoadTestHarness.Options.parse(new Options(), args);
+        LoadTestHarness.launch(options, List.of(
+                "--seminar.datagen.users=" + options.users,
+                "--seminar.datagen.seminars=10",
+                "--seminar.datagen.applications=0"),
+                context -> new SeatOversellCheck(options).run(context));
+    }
+
+    private int run(ConfigurableApplicationContext context) throws Exception {
+        registrationService = context.getBean(SeminarRegistrationService.class);
+        batchApplicationService = context.getBean(BatchApplicationService.class);
+        userRepository = context.getBean(UserRepository.class);
+        seminarRepository = context.getBean(SeminarRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Long generatedUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username LIKE 'gen%'", Long.class);
+        if (generatedUsers == null || generatedUsers < options.users) {
+            System.out.printf("생성된 사용자가 부족합니다 (%d < %d). 빈 데이터베이스로 다시 실행해주세요.%n",
+                    generatedUsers, options.users);
+            return 2;
+        }
+
+        // 일괄 신청은 User 엔티티가 필요하므로 미리 조회
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < options.users; i++) {
+            users.add(userRepository.findByUsername(LoadTestHarness.username(i)).orElseThrow());
+        }
+
+        boolean ok = true;
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads);
+        try {
+            for (int round = 1; round <= options.rounds; round++) {
+                ok &= runRound(round, users, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.println(ok ? "정원 초과 없음" : "정원 초과 검사 실패");
+        return ok ? 0 : 1;
+    }
+
+    private boolean runRound(int round, List<User> users, ExecutorService executor) throws InterruptedException {
+        List<UUID> seminarIds = createSeminars(round);
+        Map<UUID, LongAdder> applied = new ConcurrentHashMap<>();
+        Map<UUID, LongAdder> cancelled = new ConcurrentHashMap<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        seminarIds.forEach(id -> {
+            applied.put(id, new LongAdder());
+            cancelled.put(id, new LongAdder());
+        });
+
+        Random random = new Random(options.seed + round);
+        // 풀 스레드가 모두 출발선에 서면 시작 (스레드 수보다 많은 작업은 풀에서 이어서 실행)
+        CountDownLatch ready = new CountDownLatch(Math.min(users.size(), options.threads));
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(users.size());
+        for (User user : users) {
+            double action = random.nextDouble();
+            UUID target = seminarIds.get(random.nextInt(seminarIds.size()));
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    if (action < options.batchRatio) {
+                        // 모든 세미나 일괄 신청 (부분 성공 허용)
+                        batchApplicationService.applyAll(user, seminarIds, false).forEach((id, result) -> {
+                            if (result.isSuccess()) {
+                                applied.get(id).increment();
+                            }
+                        });
+                    } else if (registrationService.apply(user.getUsername(), target) == ApplyResult.APPLIED) {
+                        applied.get(target).increment();
+                        // 일부는 바로 취소해 반납된 좌석을 다른 신청과 다시 경쟁시킴
+                        if (action > 1 - options.cancelRatio && cancel(user, target)) {
+                            cancelled.get(target).increment();
+                        }
+                    }
+                } catch (Exception e) {
+                    errors.computeIfAbsent(e.getClass().getSimpleName() + ": " + e.getMessage(), key -> new LongAdder()).increment();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await(30, TimeUnit.SECONDS);
+        long started = System.nanoTime();
+        start.countDown();
+        boolean finished = done.await(options.timeoutSeconds, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("%n== 라운드 %d: 사용자 %d명, 세미나 %d개 x 정원 %d, 스레드 %d, %.1fs%s ==%n",
+                round, users.size(), seminarIds.size(), options.capacity, options.threads, elapsedSeconds,
+                finished ? "" : " (시간 초과)");
+        if (!errors.isEmpty()) {
+            Map<String, Long> counts = new HashMap<>();
+            errors.forEach((error, count) -> counts.put(error, count.sum()));
+            System.out.println("오류: " + counts);
+        }
+
+        boolean ok = finished && errors.isEmpty();
+        long duplicates = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM seminar_applications " +
+                "GROUP BY user_id, seminar_id HAVING COUNT(*) > 1) d", Long.class);
+        ok &= LoadTestHarness.check("중복 신청 없음", duplicates == 0, duplicates + "건");
+        for (UUID seminarId : seminarIds) {
+            long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seminar_applications WHERE seminar_id = ?",
+                    Long.class, seminarId);
+            long applicationCount = jdbcTemplate.queryForObject("SELECT application_count FROM seminars WHERE id = ?",
+                    Long.class, seminarId);
+            long net = applied.get(seminarId).sum() - cancelled.get(seminarId).sum();
+            String label = seminarId.toString().substring(0, 8);
+            ok &= LoadTestHarness.check(label + " 신청 수 <= 정원", rows <= options.capacity, rows + " <= " + options.capacity);
+            ok &= LoadTestHarness.check(label + " 신청자 수 = 신청 행 수", applicationCount == rows, applicationCount + " = " + rows);
+            ok &= LoadTestHarness.check(label + " (성공 - 취소) = 신청 행 수", net == rows,
+                    applied.get(seminarId).sum() + " - " + cancelled.get(seminarId).sum() + " = " + rows);
+        }
+        return ok;
+    }
+
+    private List<UUID> createSeminars(int round) {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 1; i <= options.seminars; i++) {
+            Seminar seminar = new Seminar("[정원 검사] 라운드 " + round + " 세미나 " + i, "정원 초과 동시성 검사용 세미나입니다.",
+                    LocalDateTime.now().plusDays(7).withNano(0), "대회의실", admin);
+            seminar.setCapacity(options.capacity);
+            ids.add(seminarRepository.save(seminar).getId());
+        }
+        return ids;
+    }
+
+    private boolean cancel(User user, UUID seminarId) {
+        List<UUID> applicationIds = jdbcTemplate.queryForList(
+                "SELECT id FROM seminar_applications WHERE user_id = ? AND seminar_id = ?", UUID.class, user.getId(), seminarId);
+        return !applicationIds.isEmpty()
+                && registrationService.cancel(user.getUsername(), applicationIds.get(0)).isSuccess();
+    }
+
+    static class Options extends LoadTestHarness.Options {
+
+        int users = 3000;
+        int seminars = 3;
+        int capacity = 100;
+        int threads = 200;
+        int rounds = 3;
+        double batchRatio = 0.2;
+        double cancelRatio = 0.1;
+
+        @Override
+        boolean option(String key, String value) {
+            switch (key) {
+                case "users" -> users = Integer.parseInt(value);
+                case "seminars" -> seminars = Integer.parseInt(value);
+                case "capacity" -> capacity = Integer.parseInt(value);
+                case "threads" -> threads = Integer.parseInt(value);
+                case "rounds" -> rounds = Integer.parseInt(value);
+                case "batch-ratio" -> batchRatio = Double.parseDouble(value);
+                case "cancel-ratio" -> cancelRatio = Double.parseDouble(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
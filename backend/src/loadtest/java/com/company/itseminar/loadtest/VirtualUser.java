@@ -0,0 +1,130 @@
+package com.company.itseminar.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+// 로그인 세션(JSESSIONID)을 가진 가상 사용자 한 명 (HttpClient는 모든 사용자가 공유)
+class VirtualUser {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String username;
+    private String sessionCookie;
+    // 목록 ETag (브라우저처럼 다음 목록 요청에 If-None-Match로 보냄)
+    private String listETag;
+
+    VirtualUser(HttpClient client, String baseUrl, String username) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.username = username;
+    }
+
+    String getUsername() {
+        return username;
+    }
+
+    boolean login(String password, EndpointStats stats, long intendedStart) {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        Response response = send(post("/api/auth/login", body), stats, intendedStart);
+        return response != null && response.status == 200 && sessionCookie != null;
+    }
+
+    Response listSeminars(EndpointStats stats, long intendedStart) {
+        HttpRequest.Builder request = get("/api/seminars?size=20");
+        if (listETag != null) {
+            request.header("If-None-Match", listETag);
+        }
+        Response response = send(request, stats, intendedStart);
+        if (response != null && response.status == 200) {
+            listETag = response.header("ETag").orElse(null);
+        }
+        return response;
+    }
+
+    Response seminarDetail(UUID seminarId, EndpointStats stats, long intendedStart) {
+        return send(get("/api/seminars/" + seminarId), stats, intendedStart);
+    }
+
+    // 재시도와 구분할 수 있도록 요청마다 새 Idempotency-Key 사용
+    Response apply(UUID seminarId, EndpointStats stats, long intendedStart) {
+        HttpRequest.Builder request = post("/api/applications", "{\"seminarId\":\"" + seminarId + "\"}")
+                .header("Idempotency-Key", UUID.randomUUID().toString());
+        return send(request, stats, intendedStart);
+    }
+
+    Response queueTicket(String ticketId, EndpointStats stats, long intendedStart) {
+        return send(get("/api/applications/queue/" + ticketId), stats, intendedStart);
+    }
+
+    Response createSeminar(String json, EndpointStats stats, long intendedStart) {
+        return send(post("/api/seminars", json), stats, intendedStart);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    // 연결 실패/타임아웃이면 null (실패로 집계)
+    private Response send(HttpRequest.Builder request, EndpointStats stats, long intendedStart) {
+        if (sessionCookie != null) {
+            request.header("Cookie", sessionCookie);
+        }
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(intendedStart, response.statusCode());
+            // 세션 쿠키는 처음 응답에서 발급되고 로그인 시 바뀔 수 있음
+            response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                    .findFirst()
+                    .ifPresent(cookie -> sessionCookie = cookie.split(";", 2)[0]);
+            return new Response(response);
+        } catch (IOException e) {
+            stats.recordFailure();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.recordFailure();
+            return null;
+        }
+    }
+
+    static class Response {
+
+        private final int status;
+        private final String body;
+        private final HttpResponse<String> raw;
+
+        Response(HttpResponse<String> raw) {
+            this.status = raw.statusCode();
+            this.body = raw.body();
+            this.raw = raw;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        String getBody() {
+            return body;
+        }
+
+        Optional<String> header(String name) {
+            return raw.headers().firstValue(name);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.itseminar.config;
+
+import com.company.itseminar.service.LegacyAttachmentMigrator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// DB(file_data 컬럼)에 저장된 첨부파일 내용을 첨부파일 저장소로 이전 (attachment-migration 프로필에서만 실행)
+// 실행: mvn spring-boot:run -Dspring-boot.run.profiles=attachment-migration
+@Component
+@Profile("attachment-migration")
+@Order(3)
+public class AttachmentMigration implements CommandLineRunner {
+
+    @Autowired
+    private LegacyAttachmentMigrator legacyAttachmentMigrator;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    // 이전 후 애플리케이션 종료 (이전 전용 실행)
+    @Value("${seminar.attachments.migration.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) throws Exception {
+        legacyAttachmentMigrator.migrate();
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
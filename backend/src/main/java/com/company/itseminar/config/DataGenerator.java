@@ -0,0 +1,460 @@
+package com.company.itseminar.config;
+
+import com.company.itseminar.service.StatRollupService;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// 성능 문제 재현용 대량 데이터 생성 (datagen 프로필에서만 실행)
+// 사용자/세미나/신청을 PostgreSQL COPY로 스트리밍해 한 트랜잭션으로 적재한다 (행 단위 save 없음).
+// 분포: 세미나 인기도는 Zipf 분포(소수의 인기 세미나에 신청 집중), 부서는 가중치 분포이며
+// 부서마다 선호 카테고리가 있어 신청 일부는 그 카테고리 세미나로 몰린다. 정원이 찬 세미나에는 더 신청하지 않는다.
+// 같은 seed로 실행하면 같은 데이터가 만들어지며, 생성된 사용자(gen 접두어)가 이미 있으면 아무것도 하지 않는다.
+// 실행: mvn spring-boot:run -Dspring-boot.run.profiles=datagen -Dspring-boot.run.arguments="--seminar.datagen.applications=1000000"
+@Component
+@Profile("datagen")
+@Order(2)
+public class DataGenerator implements CommandLineRunner {
+
+    private static final String USERNAME_PREFIX = "gen";
+    private static final String PASSWORD = "user123";
+
+    // 부서와 가중치, 선호 카테고리 (categories.name)
+    private static final String[] DEPARTMENTS = {"개발팀", "QA팀", "인프라팀", "데이터팀", "보안팀", "디자인팀", "기획팀", "마케팅팀"};
+    private static final int[] DEPARTMENT_WEIGHTS = {40, 8, 10, 12, 5, 7, 10, 8};
+    private static final String[] PREFERRED_CATEGORIES = {"프로그래밍", "프로그래밍", "DevOps", "AI/ML", "보안", "웹개발", "기타", "기타"};
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "지민", "주원", "하은",
+            "예준", "수아", "지호", "지유", "준서", "채원", "현우", "다은", "건우", "유진"};
+
+    private static final String[] TOPICS = {"Spring Boot", "Kotlin", "Java 21", "PostgreSQL", "Redis", "Kafka", "Kubernetes",
+            "Docker", "Terraform", "AWS", "React", "TypeScript", "Next.js", "Flutter", "Swift", "LLM", "RAG", "MLOps",
+            "데이터 파이프라인", "보안 취약점 분석", "제로 트러스트", "관측 가능성", "성능 튜닝", "테스트 자동화", "클린 아키텍처"};
+    private static final String[] FORMATS = {"입문", "실무 적용기", "심화 워크숍", "트러블슈팅 사례", "도입 회고", "핸즈온 실습", "최신 동향"};
+    private static final String[] LOCATIONS = {"회의실 A", "회의실 B", "회의실 C", "대회의실", "교육장 1", "교육장 2", "온라인"};
+
+    // 전체 신청 중 부서 선호 카테고리에서 뽑는 비율 / 인기도와 무관하게 고르게 뽑는 비율
+    private static final double DEPARTMENT_PICK_RATIO = 0.35;
+    private static final double UNIFORM_PICK_RATIO = 0.2;
+    private static final double ZIPF_EXPONENT = 0.9;
+    // 이미 신청했거나 정원이 찬 세미나를 뽑았을 때 다시 뽑는 최대 횟수
+    private static final int MAX_PICK_ATTEMPTS = 20;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private StatRollupService statRollupService;
+
+    @Value("${seminar.datagen.users:100000}")
+    private int userCount;
+
+    @Value("${seminar.datagen.seminars:50000}")
+    private int seminarCount;
+
+    @Value("${seminar.datagen.applications:5000000}")
+    private long applicationCount;
+
+    @Value("${seminar.datagen.seed:42}")
+    private long seed;
+
+    // 생성 후 애플리케이션 종료 (생성 전용 실행)
+    @Value("${seminar.datagen.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            if (alreadyGenerated(connection)) {
+                System.out.println("생성된 데이터가 이미 있어 대량 데이터 생성을 건너뜁니다.");
+            } else {
+                generate(connection);
+            }
+        }
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    private boolean alreadyGenerated(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM users WHERE username = '" + username(0) + "')")) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+    private void generate(Connection connection) throws SQLException {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        UUID adminId = queryAdminId(connection);
+        List<UUID> categoryIds = new ArrayList<>();
+        List<String> categoryNames = new ArrayList<>();
+        queryCategories(connection, categoryIds, categoryNames);
+
+        long started = System.currentTimeMillis();
+        connection.setAutoCommit(false);
+        try {
+            PGConnection pg = connection.unwrap(PGConnection.class);
+
+            Users users = copyUsers(pg, random, now);
+            System.out.printf("사용자 %,d명 생성 (%,d ms)%n", userCount, System.currentTimeMillis() - started);
+
+            Seminars seminars = copySeminars(pg, random, now, adminId, categoryIds);
+            System.out.printf("세미나 %,d개 생성 (%,d ms)%n", seminarCount, System.currentTimeMillis() - started);
+
+            long inserted = copyApplications(pg, random, now, users, seminars, categoryNames);
+            System.out.printf("신청 %,d건 생성 (%,d ms)%n", inserted, System.currentTimeMillis() - started);
+
+            // 신청자 수는 적재한 신청 행으로 한 번에 계산
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE seminars s SET application_count = c.cnt " +
+                        "FROM (SELECT seminar_id, COUNT(*) AS cnt FROM seminar_applications GROUP BY seminar_id) c " +
+                        "WHERE s.id = c.seminar_id AND s.application_count <> c.cnt");
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        // 대량 적재 후 실행 계획이 바로 맞게 나오도록 통계 갱신
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE seminars");
+            statement.execute("ANALYZE seminar_applications");
+        }
+        // COPY로 넣은 행은 변경 이벤트를 거치지 않으므로 시계열 통계를 다시 집계
+        statRollupService.rebuild();
+        System.out.printf("대량 데이터 생성 완료 (%,d ms), 생성된 계정 비밀번호: %s%n",
+                System.currentTimeMillis() - started, PASSWORD);
+    }
+
+    private UUID queryAdminId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM users WHERE username = 'admin'")) {
+            if (!rs.next()) {
+                throw new RuntimeException("관리자 계정을 찾을 수 없습니다");
+            }
+            return rs.getObject(1, UUID.class);
+        }
+    }
+
+    private void queryCategories(Connection connection, List<UUID> ids, List<String> names) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, name FROM categories ORDER BY display_order, name")) {
+            while (rs.next()) {
+                ids.add(rs.getObject(1, UUID.class));
+                names.add(rs.getString(2));
+            }
+        }
+    }
+
+    private Users copyUsers(PGConnection pg, Random random, LocalDateTime now) throws SQLException {
+        // BCrypt는 느리므로 모든 생성 계정이 같은 해시를 사용
+        String password = passwordEncoder.encode(PASSWORD);
+        Sampler departmentSampler = Sampler.weighted(DEPARTMENT_WEIGHTS);
+        Users users = new Users(userCount);
+
+        try (CopyWriter writer = new CopyWriter(pg,
+                "COPY users (id, username, password, full_name, email, department, role, created_at) FROM STDIN (FORMAT csv)")) {
+            for (int i = 0; i < userCount; i++) {
+                UUID id = randomUuid(random);
+                int department = departmentSampler.next(random);
+                String username = username(i);
+                users.ids[i] = id;
+                users.departments[i] = department;
+                writer.row(id, username, password,
+                        SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)],
+                        username + "@company.com", DEPARTMENTS[department], "USER",
+                        now.minusDays(random.nextInt(1000)));
+            }
+        }
+        return users;
+    }
+
+    // 세미나 인덱스가 곧 인기 순위 (0번이 가장 인기)
+    private Seminars copySeminars(PGConnection pg, Random random, LocalDateTime now, UUID adminId,
+                                  List<UUID> categoryIds) throws SQLException {
+        Seminars seminars = new Seminars(seminarCount);
+
+        try (CopyWriter writer = new CopyWriter(pg,
+                "COPY seminars (id, title, description, seminar_date, location, is_closed, created_by, created_at, " +
+                "category_id, capacity, admission_queue, application_count, version) FROM STDIN (FORMAT csv)")) {
+            for (int i = 0; i < seminarCount; i++) {
+                UUID id = randomUuid(random);
+                // 지난 1년 ~ 앞으로 3개월, 업무 시간대
+                LocalDateTime date = now.minusDays(365).plusDays(random.nextInt(455)).withHour(10 + random.nextInt(8));
+                LocalDateTime createdAt = date.minusDays(7 + random.nextInt(60));
+                int category = categoryIds.isEmpty() ? -1 : random.nextInt(categoryIds.size());
+                // 30%는 정원 없음, 나머지는 20~300명
+                Integer capacity = random.nextDouble() < 0.3 ? null : 20 + random.nextInt(281);
+                String topic = TOPICS[random.nextInt(TOPICS.length)];
+                String title = topic + " " + FORMATS[random.nextInt(FORMATS.length)] + " #" + (i + 1);
+
+                seminars.ids[i] = id;
+                seminars.dates[i] = date;
+                seminars.createdAts[i] = createdAt;
+                seminars.categories[i] = category;
+                seminars.remaining[i] = capacity == null ? Integer.MAX_VALUE : capacity;
+                writer.row(id, title, topic + " 주제로 진행하는 사내 세미나입니다.", date,
+                        LOCATIONS[random.nextInt(LOCATIONS.length)], !date.isAfter(now), adminId, createdAt,
+                        category < 0 ? null : categoryIds.get(category), capacity, false, 0, 0);
+            }
+        }
+        return seminars;
+    }
+
+    private long copyApplications(PGConnection pg, Random random, LocalDateTime now, Users users, Seminars seminars,
+                                  List<String> categoryNames) throws SQLException {
+        Sampler popular = Sampler.zipf(seminarCount, ZIPF_EXPONENT);
+        SeminarPicker picker = new SeminarPicker(seminars, categoryNames, popular);
+        double perUser = (double) applicationCount / userCount;
+        int maxPerUser = Math.max(1, seminarCount / 2);
+        long inserted = 0;
+
+        try (CopyWriter writer = new CopyWriter(pg,
+                "COPY seminar_applications (id, user_id, seminar_id, applied_at) FROM STDIN (FORMAT csv)")) {
+            Set<Integer> applied = new HashSet<>();
+            for (int u = 0; u < userCount && inserted < applicationCount; u++) {
+                // 사용자별 신청 수는 지수 분포 (대부분 적게, 일부는 많이 신청)
+                long quota = Math.min(maxPerUser, Math.round(-Math.log(1 - random.nextDouble()) * perUser));
+                quota = Math.min(quota, applicationCount - inserted);
+                applied.clear();
+                for (int n = 0; n < quota; n++) {
+                    int s = picker.pick(random, users.departments[u], applied);
+                    if (s < 0) {
+                        continue;
+                    }
+                    applied.add(s);
+                    seminars.remaining[s]--;
+                    writer.row(randomUuid(random), users.ids[u], seminars.ids[s],
+                            appliedAt(random, seminars.createdAts[s], seminars.dates[s], now));
+                    inserted++;
+                }
+                if ((u + 1) % 10000 == 0) {
+                    System.out.printf("  신청 생성 중: 사용자 %,d / %,d, 신청 %,d건%n", u + 1, userCount, inserted);
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private LocalDateTime appliedAt(Random random, LocalDateTime createdAt, LocalDateTime date, LocalDateTime now) {
+        LocalDateTime end = date.isBefore(now) ? date : now;
+        long minutes = Math.max(1, ChronoUnit.MINUTES.between(createdAt, end));
+        return createdAt.plusMinutes((long) (random.nextDouble() * minutes));
+    }
+
+    private static String username(int index) {
+        return String.format("%s%06d", USERNAME_PREFIX, index + 1);
+    }
+
+    private static UUID randomUuid(Random random) {
+        // 버전 4 형식 (seed 고정으로 재현 가능)
+        long most = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static class Users {
+
+        private final UUID[] ids;
+        private final int[] departments;
+
+        Users(int count) {
+            ids = new UUID[count];
+            departments = new int[count];
+        }
+    }
+
+    private static class Seminars {
+
+        private final UUID[] ids;
+        private final LocalDateTime[] dates;
+        private final LocalDateTime[] createdAts;
+        private final int[] categories;
+        private final int[] remaining;
+
+        Seminars(int count) {
+            ids = new UUID[count];
+            dates = new LocalDateTime[count];
+            createdAts = new LocalDateTime[count];
+            categories = new int[count];
+            remaining = new int[count];
+        }
+    }
+
+    // 신청할 세미나 선택: 부서 선호 카테고리 / 전체 인기도 / 균등 중 하나로 뽑고, 신청 불가면 다시 뽑는다
+    private static class SeminarPicker {
+
+        private final Seminars seminars;
+        private final int[][] seminarsByCategory;
+        private final Sampler[] categorySamplers;
+        private final int[] preferredCategory;
+        private final Sampler popular;
+
+        SeminarPicker(Seminars seminars, List<String> categoryNames, Sampler popular) {
+            this.seminars = seminars;
+            this.popular = popular;
+            int categoryCount = categoryNames.size();
+            seminarsByCategory = new int[categoryCount][];
+            categorySamplers = new Sampler[categoryCount];
+            for (int c = 0; c < categoryCount; c++) {
+                int category = c;
+                // 인덱스 오름차순 = 인기 순
+                seminarsByCategory[c] = IntStream.range(0, seminars.ids.length)
+                        .filter(i -> seminars.categories[i] == category)
+                        .toArray();
+                categorySamplers[c] = seminarsByCategory[c].length == 0 ? null
+                        : Sampler.zipf(seminarsByCategory[c].length, ZIPF_EXPONENT);
+            }
+            preferredCategory = new int[DEPARTMENTS.length];
+            for (int d = 0; d < DEPARTMENTS.length; d++) {
+                preferredCategory[d] = categoryNames.indexOf(PREFERRED_CATEGORIES[d]);
+            }
+        }
+
+        int pick(Random random, int department, Set<Integer> applied) {
+            for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS; attempt++) {
+                int s = next(random, department);
+                if (seminars.remaining[s] > 0 && !applied.contains(s)) {
+                    return s;
+                }
+            }
+            return -1;
+        }
+
+        private int next(Random random, int department) {
+            double r = random.nextDouble();
+            int category = preferredCategory[department];
+            if (r < DEPARTMENT_PICK_RATIO && category >= 0 && categorySamplers[category] != null) {
+                return seminarsByCategory[category][categorySamplers[category].next(random)];
+            }
+            if (r < DEPARTMENT_PICK_RATIO + UNIFORM_PICK_RATIO) {
+                return random.nextInt(seminars.ids.length);
+            }
+            return popular.next(random);
+        }
+    }
+
+    // 누적 가중치 이진 탐색으로 0 ~ n-1 인덱스 추출
+    private static class Sampler {
+
+        private final double[] cumulative;
+
+        private Sampler(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+        }
+
+        static Sampler weighted(int[] weights) {
+            return new Sampler(Arrays.stream(weights).asDoubleStream().toArray());
+        }
+
+        static Sampler zipf(int n, double exponent) {
+            double[] weights = new double[n];
+            for (int k = 0; k < n; k++) {
+                weights[k] = 1.0 / Math.pow(k + 1, exponent);
+            }
+            return new Sampler(weights);
+        }
+
+        int next(Random random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+
+    // COPY ... FROM STDIN (FORMAT csv) 스트리밍 (버퍼가 차면 서버로 전송, 닫을 때 COPY 종료)
+    private static class CopyWriter implements AutoCloseable {
+
+        private static final int FLUSH_SIZE = 1 << 20;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_SIZE + 4096);
+
+        CopyWriter(PGConnection pg, String sql) throws SQLException {
+            copyIn = pg.getCopyAPI().copyIn(sql);
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof String text) {
+                    buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    // null은 빈 값(따옴표 없음)으로 기록
+                    buffer.append(value);
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+}
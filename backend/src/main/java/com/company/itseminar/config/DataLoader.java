@@ -10,12 +10,15 @@ import com.company.itseminar.repository.SeminarApplicationRepository;
 import com.company.itseminar.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+// 기본 계정/카테고리 생성 (대량 데이터 생성기 DataGenerator보다 먼저 실행)
 @Component
+@Order(1)
 public class DataLoader implements CommandLineRunner {
 
     @Autowired
@@ -59,6 +59,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/seminars/*/attachments").hasRole("ADMIN")
                 // 신청 관련은 인증된 사용자
                 .requestMatchers("/api/applications/**").authenticated()
+                // 대기 신청/알림은 인증된 사용자
+                .requestMatchers("/api/waitlist/**", "/api/notifications/**").authenticated()
                 // 사용자 정보는 인증된 사용자
                 .requestMatchers("/api/users/**").authenticated()
                 // 파일 다운로드는 인증된 사용자
@@ -95,7 +97,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Set-Cookie"));
+        configuration.setExposedHeaders(Arrays.asList("Set-Cookie", "X-Next-Cursor", "ETag", "Idempotent-Replayed",
+                "Content-Range", "Accept-Ranges", "Content-Disposition"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
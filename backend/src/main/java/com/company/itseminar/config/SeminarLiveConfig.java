@@ -0,0 +1,21 @@
+package com.company.itseminar.config;
+
+import com.company.itseminar.controller.SeminarLiveServlet;
+import com.company.itseminar.service.SeminarCountStream;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 실시간 구독 서블릿 등록 (비동기 지원 필수)
+@Configuration
+public class SeminarLiveConfig {
+
+    @Bean
+    public ServletRegistrationBean<SeminarLiveServlet> seminarLiveServlet(SeminarCountStream seminarCountStream) {
+        ServletRegistrationBean<SeminarLiveServlet> registration =
+                new ServletRegistrationBean<>(new SeminarLiveServlet(seminarCountStream), "/api/live/seminars/*");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
@@ -0,0 +1,32 @@
+package com.company.itseminar.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 세미나 전문 검색용 함수/컬럼/GIN 인덱스 설치 (db/seminar-search.sql)
+// Hibernate가 seminars 테이블을 만든 뒤에 실행되어야 하므로 entityManagerFactory 이후에 초기화한다
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "seminar.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class SeminarSearchSchemaInitializer {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PostConstruct
+    public void initialize() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("db/seminar-search.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        // 함수 본문($$ ... $$)의 세미콜론으로 잘리지 않도록 스크립트 전체를 한 번에 실행
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.execute(dataSource);
+    }
+}
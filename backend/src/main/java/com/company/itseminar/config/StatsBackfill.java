@@ -0,0 +1,38 @@
+package com.company.itseminar.config;
+
+import com.company.itseminar.service.StatRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 시계열 통계(stat_buckets) 전체 재집계 (stats-backfill 프로필에서만 실행)
+// 이벤트를 거치지 않고 DB를 직접 수정한 뒤 집계를 원본 테이블과 맞출 때 사용한다.
+// 실행: mvn spring-boot:run -Dspring-boot.run.profiles=stats-backfill
+@Component
+@Profile("stats-backfill")
+@Order(3)
+public class StatsBackfill implements CommandLineRunner {
+
+    @Autowired
+    private StatRollupService statRollupService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    // 재집계 후 애플리케이션 종료 (재집계 전용 실행)
+    @Value("${seminar.stats.backfill.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) {
+        statRollupService.rebuild();
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
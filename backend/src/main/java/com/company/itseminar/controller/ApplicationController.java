@@ -1,15 +1,25 @@
 package com.company.itseminar.controller;
 
+import com.company.itseminar.dto.BatchApplicationRequest;
+import com.company.itseminar.dto.FileAttachmentDto;
 import com.company.itseminar.dto.SeminarApplicationDto;
+import com.company.itseminar.entity.Category;
 import com.company.itseminar.entity.Seminar;
 import com.company.itseminar.entity.SeminarApplication;
 import com.company.itseminar.entity.User;
 import com.company.itseminar.repository.SeminarApplicationRepository;
-import com.company.itseminar.repository.SeminarRepository;
 import com.company.itseminar.repository.UserRepository;
+import com.company.itseminar.service.AdmissionQueue;
+import com.company.itseminar.service.BatchApplicationService;
+import com.company.itseminar.service.IdempotencyStore;
+import com.company.itseminar.service.SeminarListAssembler;
+import com.company.itseminar.service.SeminarRegistrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,41 +40,137 @@ public class ApplicationController {
     private SeminarApplicationRepository applicationRepository;
 
     @Autowired
-    private SeminarRepository seminarRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private SeminarRegistrationService seminarRegistrationService;
+
+    @Autowired
+    private AdmissionQueue admissionQueue;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private BatchApplicationService batchApplicationService;
+
+    @Autowired
+    private SeminarListAssembler seminarListAssembler;
 
     @PostMapping
-    @Operation(summary = "세미나 신청", description = "세미나에 신청합니다")
-    public ResponseEntity<Map<String, Object>> applySeminar(@RequestBody Map<String, String> request, Authentication authentication) {
-        User currentUser = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+    @Operation(summary = "세미나 신청", description = "세미나에 신청합니다 (정원이 있으면 남은 좌석이 있을 때만, 대기열 모드 세미나는 대기표를 발급, Idempotency-Key 헤더로 재시도 시 같은 응답)")
+    public ResponseEntity<Map<String, Object>> applySeminar(
+            @RequestBody Map<String, String> request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        if (idempotencyKey == null) {
+            return apply(request, authentication);
+        }
+        // 재시도 요청은 처음 응답을 그대로 재사용 (사용자/세미나/신청 테이블 조회 없음)
+        return idempotencyStore.execute(authentication.getName(), idempotencyKey, request.get("seminarId"),
+                () -> apply(request, authentication));
+    }
 
+    private ResponseEntity<Map<String, Object>> apply(Map<String, String> request, Authentication authentication) {
         String seminarId = request.get("seminarId");
         if (seminarId == null) {
             return ResponseEntity.badRequest().body(Map.of("success", false, "message", "세미나 ID가 필요합니다"));
         }
 
-        UUID seminarUuid = UUID.fromString(seminarId);
-        Seminar seminar = seminarRepository.findById(seminarUuid)
-                .orElseThrow(() -> new RuntimeException("세미나를 찾을 수 없습니다"));
+        // 대기열 모드 세미나는 DB 작업 없이 대기표만 발급하고 202로 응답
+        UUID id = UUID.fromString(seminarId);
+        if (admissionQueue.isQueued(id)) {
+            AdmissionQueue.Ticket ticket = admissionQueue.enqueue(authentication.getName(), id);
+            if (ticket == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .body(Map.of("success", false, "message", "대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요"));
+            }
+            return ticketResponse(ResponseEntity.accepted(), ticket);
+        }
 
-        // 이미 신청했는지 확인
-        if (applicationRepository.existsByUserAndSeminar(currentUser, seminar)) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "이미 신청한 세미나입니다"));
+        // 사용자 확인, 좌석 확보, 신청 생성을 등록 서비스에서 SQL 한 문장으로 처리
+        SeminarRegistrationService.ApplyResult result = seminarRegistrationService.apply(authentication.getName(), id);
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", result.getMessage()));
         }
 
-        // 세미나가 마감되었는지 확인
-        if (seminar.getIsClosed() || seminar.isExpired()) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "마감된 세미나입니다"));
+        return ResponseEntity.ok(Map.of("success", true, "message", result.getMessage()));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "세미나 일괄 신청", description = "여러 세미나에 한 번에 신청합니다 (ALL_OR_NOTHING: 모두 신청 가능할 때만, BEST_EFFORT: 가능한 세미나만)")
+    public ResponseEntity<Map<String, Object>> applySeminars(
+            @Valid @RequestBody BatchApplicationRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        if (idempotencyKey == null) {
+            return applyBatch(request, authentication);
         }
+        String fingerprint = request.getMode() + ":" + request.getSeminarIds();
+        return idempotencyStore.execute(authentication.getName(), idempotencyKey, fingerprint,
+                () -> applyBatch(request, authentication));
+    }
+
+    private ResponseEntity<Map<String, Object>> applyBatch(BatchApplicationRequest request, Authentication authentication) {
+        User currentUser = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        boolean allOrNothing = request.getMode() == BatchApplicationRequest.Mode.ALL_OR_NOTHING;
+        Map<UUID, SeminarRegistrationService.ApplyResult> results =
+                batchApplicationService.applyAll(currentUser, request.getSeminarIds(), allOrNothing);
+
+        List<Map<String, Object>> items = results.entrySet().stream()
+                .map(entry -> Map.<String, Object>of(
+                        "seminarId", entry.getKey(),
+                        "success", entry.getValue().isSuccess(),
+                        "result", entry.getValue().name(),
+                        "message", entry.getValue().getMessage()))
+                .collect(Collectors.toList());
+        long appliedCount = results.values().stream().filter(SeminarRegistrationService.ApplyResult::isSuccess).count();
+        boolean success = appliedCount == results.size();
+        String message = success ? "모든 세미나 신청이 완료되었습니다"
+                : allOrNothing ? "신청할 수 없는 세미나가 있어 모두 신청하지 않았습니다"
+                : appliedCount + "개 세미나 신청이 완료되었습니다";
+
+        Map<String, Object> body = Map.of(
+                "success", success,
+                "mode", request.getMode().name(),
+                "appliedCount", appliedCount,
+                "message", message,
+                "results", items);
+        // 전부 아니면 전무 모드에서 실패하면 400
+        return allOrNothing && !success ? ResponseEntity.badRequest().body(body) : ResponseEntity.ok(body);
+    }
 
-        // 신청 생성
-        SeminarApplication application = new SeminarApplication(currentUser, seminar);
-        applicationRepository.save(application);
+    @GetMapping("/queue/{ticketId}")
+    @Operation(summary = "대기표 조회", description = "대기열 신청의 대기 순번과 처리 결과를 조회합니다")
+    public ResponseEntity<Map<String, Object>> getQueueTicket(@PathVariable UUID ticketId, Authentication authentication) {
+        AdmissionQueue.Ticket ticket = admissionQueue.getTicket(ticketId);
+        if (ticket == null || !ticket.getUsername().equals(authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "message", "대기표를 찾을 수 없습니다"));
+        }
+        return ticketResponse(ResponseEntity.ok(), ticket);
+    }
 
-        return ResponseEntity.ok(Map.of("success", true, "message", "세미나 신청이 완료되었습니다"));
+    // 대기 중이면 예상 대기 시간을 Retry-After로 알려 폴링 간격으로 쓰게 한다
+    private ResponseEntity<Map<String, Object>> ticketResponse(ResponseEntity.BodyBuilder builder, AdmissionQueue.Ticket ticket) {
+        AdmissionQueue.TicketStatus status = ticket.getStatus();
+        long position = admissionQueue.getPosition(ticket);
+        if (status != AdmissionQueue.TicketStatus.DONE) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, admissionQueue.estimateWaitSeconds(position))));
+        }
+        String message = status == AdmissionQueue.TicketStatus.DONE ? ticket.getMessage() : "대기열에서 순서를 기다리고 있습니다";
+        return builder.body(Map.of(
+                "success", status != AdmissionQueue.TicketStatus.DONE || ticket.isSuccess(),
+                "queued", true,
+                "ticketId", ticket.getId(),
+                "seminarId", ticket.getSeminarId(),
+                "status", status.name(),
+                "position", position,
+                "message", message
+        ));
     }
 
     @GetMapping("/my")
@@ -73,8 +180,21 @@ public class ApplicationController {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
         List<SeminarApplication> applications = applicationRepository.findByUserOrderByAppliedAtDesc(currentUser);
+        // 신청한 세미나들의 첨부파일 메타데이터를 한 번에 조회
+        Map<UUID, List<FileAttachmentDto>> attachments = seminarListAssembler.attachmentsBySeminar(applications.stream()
+                .map(application -> application.getSeminar().getId())
+                .collect(Collectors.toSet()));
+        Map<UUID, Long> seminarCounts = seminarListAssembler.seminarCountsByCategory(applications.stream()
+                .map(application -> application.getSeminar().getCategory())
+                .filter(Objects::nonNull)
+                .map(Category::getId)
+                .collect(Collectors.toSet()));
         List<SeminarApplicationDto> applicationDtos = applications.stream()
-                .map(SeminarApplicationDto::new)
+                .map(application -> {
+                    Seminar seminar = application.getSeminar();
+                    return new SeminarApplicationDto(application, attachments.get(seminar.getId()),
+                            seminar.getCategory() != null ? seminarCounts.getOrDefault(seminar.getCategory().getId(), 0L) : null);
+                })
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(applicationDtos);
@@ -83,31 +203,12 @@ public class ApplicationController {
     @DeleteMapping("/{id}/cancel")
     @Operation(summary = "세미나 신청 취소", description = "세미나 신청을 취소합니다 (24시간 전까지만 가능)")
     public ResponseEntity<Map<String, Object>> cancelApplication(@PathVariable UUID id, Authentication authentication) {
-        User currentUser = userRepository.findByUsername(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
-        SeminarApplication application = applicationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("신청을 찾을 수 없습니다"));
-
-        // 본인의 신청인지 확인
-        if (!application.getUser().getId().equals(currentUser.getId())) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "본인의 신청만 취소할 수 있습니다"));
+        // 본인 확인, 24시간 규칙, 마감 여부 확인과 삭제, 신청자 수 감소를 SQL 한 문장으로 처리
+        SeminarRegistrationService.CancelResult result = seminarRegistrationService.cancel(authentication.getName(), id);
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", result.getMessage()));
         }
 
-        Seminar seminar = application.getSeminar();
-
-        // 세미나 시작 24시간 전까지만 취소 가능
-        if (!seminar.isCancellationAllowed()) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "세미나 시작 24시간 전까지만 취소할 수 있습니다"));
-        }
-
-        // 이미 마감된 세미나나 지난 세미나는 취소 불가
-        if (seminar.getIsClosed() || seminar.isExpired()) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "마감된 세미나 또는 지난 세미나는 취소할 수 없습니다"));
-        }
-
-        applicationRepository.delete(application);
-
-        return ResponseEntity.ok(Map.of("success", true, "message", "세미나 신청이 취소되었습니다"));
+        return ResponseEntity.ok(Map.of("success", true, "message", result.getMessage()));
     }
-} 
\ No newline at end of file
+}
@@ -2,11 +2,16 @@ package com.company.itseminar.controller;
 
 import com.company.itseminar.dto.CategoryDto;
 import com.company.itseminar.entity.Category;
+import com.company.itseminar.event.CategoryChangedEvent;
 import com.company.itseminar.repository.CategoryRepository;
+import com.company.itseminar.service.SeminarCatalogVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -23,14 +28,33 @@ public class CategoryController {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private SeminarCatalogVersion seminarCatalogVersion;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @GetMapping
     @Operation(summary = "카테고리 목록 조회", description = "활성화된 카테고리 목록을 조회합니다")
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
+    public ResponseEntity<List<CategoryDto>> getAllCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 카테고리 또는 카테고리별 세미나 수가 바뀌지 않았으면 304
+        String etag = seminarCatalogVersion.categoriesETag();
+        if (SeminarCatalogVersion.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(SeminarCatalogVersion.REVALIDATE)
+                    .build();
+        }
+
         List<Category> categories = categoryRepository.findByIsActiveTrueOrderByDisplayOrderAscNameAsc();
         List<CategoryDto> categoryDtos = categories.stream()
                 .map(CategoryDto::new)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(categoryDtos);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(SeminarCatalogVersion.REVALIDATE)
+                .body(categoryDtos);
     }
 
     @GetMapping("/admin")
@@ -70,6 +94,7 @@ public class CategoryController {
         category.setDisplayOrder(request.getDisplayOrder());
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
         return ResponseEntity.ok(new CategoryDto(savedCategory));
     }
 
@@ -93,6 +118,7 @@ public class CategoryController {
         category.setIsActive(request.getIsActive());
 
         Category updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(updatedCategory.getId()));
         return ResponseEntity.ok(new CategoryDto(updatedCategory));
     }
 
@@ -106,6 +132,7 @@ public class CategoryController {
         // 실제 삭제가 아닌 비활성화
         category.setIsActive(false);
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
 
         return ResponseEntity.ok().build();
     }
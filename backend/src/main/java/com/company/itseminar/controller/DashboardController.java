@@ -1,19 +1,32 @@
 package com.company.itseminar.controller;
 
-import com.company.itseminar.repository.CategoryRepository;
+import com.company.itseminar.entity.StatBucket.Dimension;
+import com.company.itseminar.entity.StatBucket.Granularity;
+import com.company.itseminar.entity.StatBucket.Metric;
 import com.company.itseminar.repository.SeminarRepository;
 import com.company.itseminar.repository.SeminarApplicationRepository;
-import com.company.itseminar.repository.UserRepository;
+import com.company.itseminar.service.AdmissionQueue;
+import com.company.itseminar.service.DashboardRollup;
+import com.company.itseminar.service.DashboardStream;
+import com.company.itseminar.service.IdempotencyStore;
+import com.company.itseminar.service.OffHeapAttachmentCache;
+import com.company.itseminar.service.SeminarCatalogCache;
+import com.company.itseminar.service.SeminarCountStream;
+import com.company.itseminar.service.StatRollupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,87 +41,65 @@ public class DashboardController {
     private SeminarRepository seminarRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private SeminarApplicationRepository seminarApplicationRepository;
 
     @Autowired
-    private SeminarApplicationRepository seminarApplicationRepository;
+    private DashboardRollup dashboardRollup;
+
+    @Autowired
+    private DashboardStream dashboardStream;
+
+    @Autowired
+    private StatRollupService statRollupService;
+
+    @Autowired
+    private SeminarCountStream seminarCountStream;
+
+    @Autowired
+    private SeminarCatalogCache seminarCatalogCache;
+
+    @Autowired
+    private AdmissionQueue admissionQueue;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
 
     @Autowired
-    private CategoryRepository categoryRepository;
+    private OffHeapAttachmentCache offHeapAttachmentCache;
 
     @GetMapping("/stats")
     @Operation(summary = "대시보드 통계", description = "전체 시스템 통계를 조회합니다 (관리자만)")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        // 기본 통계
-        long totalSeminars = seminarRepository.count();
-        long totalUsers = userRepository.count();
-        long totalApplications = seminarApplicationRepository.count();
-        long totalCategories = categoryRepository.count();
-        
-        // 현재 진행 중인 세미나 수
-        LocalDateTime now = LocalDateTime.now();
-        long activeSeminars = seminarRepository.findByOrderByDateDesc().stream()
-                .filter(seminar -> seminar.getDate().isAfter(now) && !seminar.getIsClosed())
-                .count();
-        
-        // 오늘 진행되는 세미나 수
-        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
-        LocalDateTime todayEnd = todayStart.plusDays(1);
-        long todaysSeminars = seminarRepository.findByDateBetween(todayStart, todayEnd).size();
-        
-        // 이번 주 신청 수
-        LocalDateTime weekStart = now.minusDays(7);
-        long weeklyApplications = seminarApplicationRepository.findByAppliedAtAfter(weekStart).size();
-        
-        stats.put("totalSeminars", totalSeminars);
-        stats.put("totalUsers", totalUsers);
-        stats.put("totalApplications", totalApplications);
-        stats.put("totalCategories", totalCategories);
-        stats.put("activeSeminars", activeSeminars);
-        stats.put("todaysSeminars", todaysSeminars);
-        stats.put("weeklyApplications", weeklyApplications);
-        
-        return ResponseEntity.ok(stats);
+        // 변경 이벤트로 갱신되는 집계값 조회 (요청마다 테이블을 세지 않음)
+        return ResponseEntity.ok(dashboardRollup.snapshot());
     }
     
     @GetMapping("/monthly-stats")
     @Operation(summary = "월별 세미나 통계", description = "월별 세미나 개최 수를 조회합니다 (관리자만)")
     public ResponseEntity<List<Map<String, Object>>> getMonthlySeminarStats() {
-        List<Object[]> rawStats = seminarRepository.findMonthlySeminarStats();
-        
-        List<Map<String, Object>> monthlyStats = rawStats.stream()
-                .map(row -> {
-                    Map<String, Object> stat = new HashMap<>();
-                    stat.put("year", row[0]);
-                    stat.put("month", row[1]);
-                    stat.put("count", row[2]);
-                    return stat;
-                })
-                .toList();
-        
-        return ResponseEntity.ok(monthlyStats);
+        return ResponseEntity.ok(statRollupService.monthlyTotals(Metric.SEMINARS));
+    }
+
+    @GetMapping("/timeseries")
+    @Operation(summary = "기간별 통계", description = "세미나 개최 수(SEMINARS) 또는 신청 수(APPLICATIONS)를 일/주/월 단위로 조회합니다. " +
+            "dimension이 CATEGORY면 카테고리 ID별, DEPARTMENT면 부서별로 나누며 key로 하나만 조회할 수 있습니다 (관리자만)")
+    public ResponseEntity<?> getTimeSeries(
+            @RequestParam Metric metric,
+            @RequestParam(defaultValue = "DAY") Granularity granularity,
+            @RequestParam(defaultValue = "ALL") Dimension dimension,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String key) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "시작일은 종료일보다 늦을 수 없습니다"));
+        }
+        return ResponseEntity.ok(statRollupService.series(metric, granularity, dimension, from, to, key));
     }
     
     @GetMapping("/category-stats")
     @Operation(summary = "카테고리별 통계", description = "카테고리별 세미나 수를 조회합니다 (관리자만)")
     public ResponseEntity<List<Map<String, Object>>> getCategoryStats() {
-        var categories = categoryRepository.findByIsActiveTrueOrderByDisplayOrderAscNameAsc();
-        
-        List<Map<String, Object>> categoryStats = categories.stream()
-                .map(category -> {
-                    Map<String, Object> stat = new HashMap<>();
-                    stat.put("id", category.getId());
-                    stat.put("name", category.getName());
-                    stat.put("color", category.getColorCode());
-                    stat.put("icon", category.getIconName());
-                    stat.put("seminarCount", seminarRepository.countByCategory(category));
-                    return stat;
-                })
-                .toList();
-        
-        return ResponseEntity.ok(categoryStats);
+        return ResponseEntity.ok(dashboardStream.categoryStats());
     }
     
     @GetMapping("/recent-activities")
@@ -117,8 +108,7 @@ public class DashboardController {
         Map<String, Object> activities = new HashMap<>();
         
         // 최근 세미나 (최대 10개)
-        var recentSeminars = seminarRepository.findByOrderByDateDesc().stream()
-                .limit(10)
+        var recentSeminars = seminarRepository.findTop10ByOrderByDateDesc().stream()
                 .map(seminar -> {
                     Map<String, Object> activity = new HashMap<>();
                     activity.put("id", seminar.getId());
@@ -127,8 +117,7 @@ public class DashboardController {
                     activity.put("location", seminar.getLocation());
                     activity.put("createdBy", seminar.getCreatedBy().getFullName());
                     activity.put("createdAt", seminar.getCreatedAt());
-                    activity.put("applicationCount", seminar.getApplications() != null ? 
-                            seminar.getApplications().size() : 0);
+                    activity.put("applicationCount", seminar.getApplicationCount());
                     if (seminar.getCategory() != null) {
                         activity.put("categoryName", seminar.getCategory().getName());
                         activity.put("categoryColor", seminar.getCategory().getColorCode());
@@ -156,4 +145,35 @@ public class DashboardController {
         
         return ResponseEntity.ok(activities);
     }
-} 
\ No newline at end of file
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "대시보드 실시간 갱신", description = "신청/취소/세미나 변경을 모아 dashboard 이벤트로 보냅니다 (SSE, 관리자만). " +
+            "각 이벤트에는 전체 통계, 최근 신청, 변경된 세미나와 신청자 수가 포함됩니다")
+    public SseEmitter streamDashboard() {
+        return dashboardStream.subscribe();
+    }
+
+    @GetMapping("/cache-stats")
+    @Operation(summary = "세미나 캐시 통계", description = "세미나 카탈로그 캐시, Idempotency-Key 저장소, 첨부파일 캐시의 크기와 적중/미스 통계를 조회합니다 (관리자만)")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> stats = new HashMap<>(seminarCatalogCache.stats());
+        stats.put("idempotency", idempotencyStore.stats());
+        stats.put("attachments", offHeapAttachmentCache.stats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/live-stats")
+    @Operation(summary = "실시간 구독 통계", description = "세미나 신청자 수 구독 수와 대시보드 실시간 갱신 구독 수를 조회합니다 (관리자만)")
+    public ResponseEntity<Map<String, Object>> getLiveStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("seminarSubscribers", seminarCountStream.subscriberCount());
+        stats.put("dashboardSubscribers", dashboardStream.subscriberCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/admission-stats")
+    @Operation(summary = "입장 대기열 통계", description = "대기열 모드 세미나 수와 대기/처리 중인 신청 수를 조회합니다 (관리자만)")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
+        return ResponseEntity.ok(admissionQueue.stats());
+    }
+}
@@ -4,15 +4,20 @@ import com.company.itseminar.dto.FileAttachmentDto;
 import com.company.itseminar.entity.FileAttachment;
 import com.company.itseminar.entity.Seminar;
 import com.company.itseminar.entity.User;
+import com.company.itseminar.event.AttachmentChangedEvent;
 import com.company.itseminar.repository.FileAttachmentRepository;
 import com.company.itseminar.repository.SeminarRepository;
 import com.company.itseminar.repository.UserRepository;
+import com.company.itseminar.service.AttachmentDownloadService;
+import com.company.itseminar.service.AttachmentStorage.StoredContent;
+import com.company.itseminar.service.AttachmentUploadService;
+import com.company.itseminar.service.OffHeapAttachmentCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -39,6 +45,18 @@ public class FileAttachmentController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AttachmentUploadService attachmentUploadService;
+
+    @Autowired
+    private AttachmentDownloadService attachmentDownloadService;
+
+    @Autowired
+    private OffHeapAttachmentCache offHeapAttachmentCache;
+
     @PostMapping("/seminars/{seminarId}/attachments")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "파일 업로드", description = "세미나에 파일을 업로드합니다 (관리자만)")
@@ -59,23 +77,22 @@ public class FileAttachmentController {
         }
 
         try {
-            List<FileAttachment> attachments = List.of(files).stream()
-                    .map(file -> {
-                        try {
-                            return new FileAttachment(
-                                    seminar,
-                                    file.getOriginalFilename(),
-                                    file.getContentType(),
-                                    file.getSize(),
-                                    file.getBytes()
-                            );
-                        } catch (IOException e) {
-                            throw new RuntimeException("파일 처리 중 오류가 발생했습니다: " + e.getMessage());
-                        }
-                    })
-                    .collect(Collectors.toList());
+            // 파일 내용은 저장소로 스트리밍하고 (요청 내 파일은 동시에 처리) DB에는 해시와 크기만 저장
+            List<StoredContent> stored = attachmentUploadService.storeAll(files);
+            List<FileAttachment> attachments = new ArrayList<>();
+            for (int i = 0; i < files.length; i++) {
+                attachments.add(new FileAttachment(
+                        seminar,
+                        files[i].getOriginalFilename(),
+                        files[i].getContentType(),
+                        stored.get(i).getSize(),
+                        stored.get(i).getHash()
+                ));
+            }
 
             List<FileAttachment> savedAttachments = fileAttachmentRepository.saveAll(attachments);
+            seminarRepository.incrementAttachmentVersion(seminarId);
+            eventPublisher.publishEvent(new AttachmentChangedEvent(seminarId, AttachmentChangedEvent.ChangeType.UPLOADED));
 
             List<FileAttachmentDto> attachmentDtos = savedAttachments.stream()
                     .map(FileAttachmentDto::new)
@@ -89,32 +106,23 @@ public class FileAttachmentController {
     }
 
     @GetMapping("/attachments/{id}/download")
-    @Operation(summary = "파일 다운로드", description = "첨부파일을 다운로드합니다")
-    public ResponseEntity<ByteArrayResource> downloadFile(@PathVariable UUID id) {
+    @Operation(summary = "파일 다운로드", description = "첨부파일을 다운로드합니다 (Range 요청으로 부분/이어받기 지원)")
+    public void downloadFile(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response) throws IOException {
         FileAttachment attachment = fileAttachmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다"));
 
-        ByteArrayResource resource = new ByteArrayResource(attachment.getFileData());
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachment.getFileName() + "\"")
-                .contentType(MediaType.parseMediaType(attachment.getContentType() != null ? attachment.getContentType() : "application/octet-stream"))
-                .contentLength(attachment.getFileSize())
-                .body(resource);
+        attachmentDownloadService.send(attachment, request, response);
     }
 
     @GetMapping("/seminars/{seminarId}/attachments")
     @Operation(summary = "세미나 첨부파일 목록", description = "특정 세미나의 첨부파일 목록을 조회합니다")
     public ResponseEntity<List<FileAttachmentDto>> getSeminarAttachments(@PathVariable UUID seminarId) {
-        Seminar seminar = seminarRepository.findById(seminarId)
-                .orElseThrow(() -> new RuntimeException("세미나를 찾을 수 없습니다"));
-
-        List<FileAttachment> attachments = fileAttachmentRepository.findBySeminarOrderByUploadedAtDesc(seminar);
-        List<FileAttachmentDto> attachmentDtos = attachments.stream()
-                .map(FileAttachmentDto::new)
-                .collect(Collectors.toList());
+        if (!seminarRepository.existsById(seminarId)) {
+            throw new RuntimeException("세미나를 찾을 수 없습니다");
+        }
 
-        return ResponseEntity.ok(attachmentDtos);
+        // 메타데이터만 조회 (엔티티를 로드하지 않음)
+        return ResponseEntity.ok(fileAttachmentRepository.findMetadataBySeminarId(seminarId));
     }
 
     @DeleteMapping("/attachments/{id}")
@@ -135,6 +143,11 @@ public class FileAttachmentController {
         }
 
         fileAttachmentRepository.delete(attachment);
+        if (attachment.getContentHash() != null) {
+            offHeapAttachmentCache.invalidate(attachment.getContentHash());
+        }
+        seminarRepository.incrementAttachmentVersion(seminar.getId());
+        eventPublisher.publishEvent(new AttachmentChangedEvent(seminar.getId(), AttachmentChangedEvent.ChangeType.DELETED));
 
         return ResponseEntity.ok(Map.of("success", true, "message", "파일이 삭제되었습니다"));
     }
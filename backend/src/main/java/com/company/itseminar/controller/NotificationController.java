@@ -0,0 +1,61 @@
+package com.company.itseminar.controller;
+
+import com.company.itseminar.dto.NotificationDto;
+import com.company.itseminar.entity.Notification;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.repository.NotificationRepository;
+import com.company.itseminar.repository.UserRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/notifications")
+@Tag(name = "Notifications", description = "알림 관련 API")
+public class NotificationController {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @GetMapping("/my")
+    @Operation(summary = "내 알림", description = "현재 사용자의 최근 알림 50건을 조회합니다")
+    public ResponseEntity<List<NotificationDto>> getMyNotifications(Authentication authentication) {
+        User currentUser = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        List<Notification> notifications = notificationRepository.findTop50ByUserOrderByCreatedAtDesc(currentUser);
+        return ResponseEntity.ok(notifications.stream()
+                .map(NotificationDto::new)
+                .collect(Collectors.toList()));
+    }
+
+    @PutMapping("/{id}/read")
+    @Operation(summary = "알림 읽음 처리", description = "알림을 읽음으로 표시합니다")
+    public ResponseEntity<Map<String, Object>> markAsRead(@PathVariable UUID id, Authentication authentication) {
+        User currentUser = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        Notification notification = notificationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다"));
+
+        // 본인의 알림인지 확인
+        if (!notification.getUser().getId().equals(currentUser.getId())) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "본인의 알림만 읽음 처리할 수 있습니다"));
+        }
+
+        notification.setIsRead(true);
+        notificationRepository.save(notification);
+        return ResponseEntity.ok(Map.of("success", true, "message", "알림을 읽음으로 표시했습니다"));
+    }
+}
@@ -1,6 +1,9 @@
 package com.company.itseminar.controller;
 
 import com.company.itseminar.dto.SeminarCreateRequest;
+import com.company.itseminar.dto.SeminarCursor;
+import com.company.itseminar.dto.SeminarSearchCriteria;
+import com.company.itseminar.dto.SeminarSearchHit;
 import com.company.itseminar.dto.SeminarDto;
 import com.company.itseminar.dto.UserDto;
 import com.company.itseminar.entity.Category;
@@ -8,24 +11,37 @@ import com.company.itseminar.entity.Seminar;
 import com.company.itseminar.entity.SeminarApplication;
 import com.company.itseminar.entity.User;
 import com.company.itseminar.repository.CategoryRepository;
+import com.company.itseminar.repository.FileAttachmentRepository;
 import com.company.itseminar.repository.SeminarRepository;
+import com.company.itseminar.repository.SeminarSpecifications;
 import com.company.itseminar.repository.UserRepository;
 import com.company.itseminar.repository.SeminarApplicationRepository;
-import com.company.itseminar.repository.FileAttachmentRepository;
-import com.company.itseminar.dto.FileAttachmentDto;
-import com.company.itseminar.entity.FileAttachment;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.company.itseminar.service.SeminarCatalogCache;
+import com.company.itseminar.service.SeminarCatalogVersion;
+import com.company.itseminar.service.SeminarSearchEngine;
+import com.company.itseminar.service.StatRollupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -43,66 +59,114 @@ public class SeminarController {
     @Autowired
     private SeminarApplicationRepository seminarApplicationRepository;
 
+    @Autowired
+    private CategoryRepository categoryRepository;
+
     @Autowired
     private FileAttachmentRepository fileAttachmentRepository;
 
     @Autowired
-    private CategoryRepository categoryRepository;
+    private SeminarCatalogCache seminarCatalogCache;
+
+    @Autowired
+    private SeminarCatalogVersion seminarCatalogVersion;
+
+    @Autowired
+    private SeminarSearchEngine seminarSearchEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StatRollupService statRollupService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 다음 페이지 커서 응답 헤더 및 최대 페이지 크기
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 100;
 
     @GetMapping
-    @Operation(summary = "세미나 목록 조회", description = "모든 세미나 목록을 조회합니다")
-    public ResponseEntity<List<SeminarDto>> getAllSeminars(Authentication authentication) {
-        List<Seminar> seminars = seminarRepository.findByOrderByDateDesc();
+    @Operation(summary = "세미나 목록 조회", description = "세미나 목록을 날짜 역순으로 페이지 단위 조회합니다 (다음 페이지 커서는 X-Next-Cursor 헤더)")
+    public ResponseEntity<List<SeminarDto>> getAllSeminars(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
+        // 카탈로그가 바뀌지 않았으면 DB 조회 없이 304
+        String etag = seminarCatalogVersion.listETag(authentication.getName());
+        if (SeminarCatalogVersion.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
         User currentUser = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
-        List<SeminarDto> seminarDtos = seminars.stream()
-                .map(seminar -> {
-                    SeminarDto dto = new SeminarDto(seminar);
-                    dto.setUserApplied(seminarApplicationRepository.existsByUserAndSeminar(currentUser, seminar));
-                    return dto;
-                })
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(seminarDtos);
+
+        SeminarCursor after = SeminarCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
+        SeminarCatalogCache.Page page = seminarCatalogCache.getPage("all", null, after, pageSize, () ->
+                toPage(seminarRepository.findPage(after.getDate(), after.getId(), Limit.of(pageSize + 1)), pageSize));
+
+        return pageResponse(ResponseEntity.ok().eTag(etag).cacheControl(SeminarCatalogVersion.REVALIDATE), page, currentUser);
     }
 
     @GetMapping("/search")
-    @Operation(summary = "세미나 검색 및 필터링", description = "다양한 조건으로 세미나를 검색하고 필터링합니다")
+    @Operation(summary = "세미나 검색 및 필터링", description = "다양한 조건으로 세미나를 검색하고 필터링합니다 (키워드가 있으면 관련도 순)")
     public ResponseEntity<List<SeminarDto>> searchSeminars(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) Boolean isClosed,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             Authentication authentication) {
         
         User currentUser = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        Category category = null;
-        if (categoryId != null) {
-            category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다"));
+        if (categoryId != null && !categoryRepository.existsById(categoryId)) {
+            throw new RuntimeException("카테고리를 찾을 수 없습니다");
         }
         
-        List<Seminar> seminars = seminarRepository.findWithFilters(
-                category, keyword, startDate, endDate, isClosed);
-        
-        List<SeminarDto> seminarDtos = seminars.stream()
-                .map(seminar -> {
-                    SeminarDto dto = new SeminarDto(seminar);
-                    dto.setUserApplied(seminarApplicationRepository.existsByUserAndSeminar(currentUser, seminar));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        SeminarCursor after = SeminarCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
+        SeminarSearchCriteria criteria = new SeminarSearchCriteria(keyword, categoryId, startDate, endDate, isClosed);
+
+        SeminarCatalogCache.Page page = seminarCatalogCache.getPage("search", criteria, after, pageSize, () -> {
+            // 키워드가 있으면 검색 엔진에서 관련도 순으로 ID를 구한다
+            if (criteria.hasKeyword()) {
+                List<SeminarSearchHit> hits = seminarSearchEngine.search(criteria, after, pageSize + 1);
+                boolean hasNext = hits.size() > pageSize;
+                List<SeminarSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+                return new SeminarCatalogCache.Page(
+                        pageHits.stream().map(SeminarSearchHit::getId).collect(Collectors.toList()),
+                        hasNext ? pageHits.get(pageHits.size() - 1).toCursor() : null);
+            }
+
+            Specification<Seminar> filters = Specification
+                    .where(SeminarSpecifications.categoryIdEquals(categoryId))
+                    .and(SeminarSpecifications.dateFrom(startDate))
+                    .and(SeminarSpecifications.dateTo(endDate))
+                    .and(SeminarSpecifications.isClosedEquals(isClosed))
+                    .and(SeminarSpecifications.after(after));
+            return toPage(seminarRepository.findBy(filters, query -> query
+                    .sortBy(Sort.by(Sort.Direction.DESC, "date", "id"))
+                    .limit(pageSize + 1)
+                    .all()), pageSize);
+        });
         
-        return ResponseEntity.ok(seminarDtos);
+        return pageResponse(ResponseEntity.ok(), page, currentUser);
     }
     
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "카테고리별 세미나 조회", description = "특정 카테고리의 세미나 목록을 조회합니다")
     public ResponseEntity<List<SeminarDto>> getSeminarsByCategory(
-            @PathVariable UUID categoryId, Authentication authentication) {
+            @PathVariable UUID categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
         
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다"));
@@ -110,39 +174,43 @@ public class SeminarController {
         User currentUser = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        List<Seminar> seminars = seminarRepository.findByCategoryOrderByDateDesc(category);
-        
-        List<SeminarDto> seminarDtos = seminars.stream()
-                .map(seminar -> {
-                    SeminarDto dto = new SeminarDto(seminar);
-                    dto.setUserApplied(seminarApplicationRepository.existsByUserAndSeminar(currentUser, seminar));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        SeminarCursor after = SeminarCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
+        SeminarSearchCriteria criteria = new SeminarSearchCriteria(null, categoryId, null, null, null);
+        SeminarCatalogCache.Page page = seminarCatalogCache.getPage("category", criteria, after, pageSize, () ->
+                toPage(seminarRepository.findPageByCategory(category, after.getDate(), after.getId(), Limit.of(pageSize + 1)), pageSize));
         
-        return ResponseEntity.ok(seminarDtos);
+        return pageResponse(ResponseEntity.ok(), page, currentUser);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "세미나 상세 조회", description = "특정 세미나의 상세 정보를 조회합니다")
-    public ResponseEntity<SeminarDto> getSeminar(@PathVariable UUID id, Authentication authentication) {
-        Seminar seminar = seminarRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("세미나를 찾을 수 없습니다"));
-        
+    public ResponseEntity<SeminarDto> getSeminar(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
+        // 버전 컬럼만 조회해서 바뀌지 않았으면 304
+        String etag = seminarCatalogVersion.detailETag(id, authentication.getName());
+        if (etag == null) {
+            throw new RuntimeException("세미나를 찾을 수 없습니다");
+        }
+        if (SeminarCatalogVersion.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
         User currentUser = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
-        SeminarDto dto = new SeminarDto(seminar);
-        dto.setUserApplied(seminarApplicationRepository.existsByUserAndSeminar(currentUser, seminar));
-        
-        // 첨부파일을 별도로 조회하여 설정
-        List<FileAttachment> attachments = fileAttachmentRepository.findBySeminarOrderByUploadedAtDesc(seminar);
-        List<FileAttachmentDto> attachmentDtos = attachments.stream()
-                .map(FileAttachmentDto::new)
-                .collect(Collectors.toList());
-        dto.setAttachments(attachmentDtos);
+        // 첨부파일과 신청자 수를 포함한 공용 DTO는 카탈로그 캐시에서 조회
+        List<SeminarDto> dtos = seminarCatalogCache.getSeminars(List.of(id), currentUser);
+        if (dtos.isEmpty()) {
+            throw new RuntimeException("세미나를 찾을 수 없습니다");
+        }
         
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(SeminarCatalogVersion.REVALIDATE)
+                .body(dtos.get(0));
     }
 
     @GetMapping("/{id}/applicants")
@@ -181,15 +249,18 @@ public class SeminarController {
                 creator,
                 category
         );
+        seminar.setCapacity(request.getCapacity());
+        seminar.setAdmissionQueue(Boolean.TRUE.equals(request.getAdmissionQueue()));
 
         Seminar savedSeminar = seminarRepository.save(seminar);
+        eventPublisher.publishEvent(new SeminarChangedEvent(savedSeminar.getId(), SeminarChangedEvent.ChangeType.CREATED));
         return ResponseEntity.ok(new SeminarDto(savedSeminar));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "세미나 수정", description = "기존 세미나를 수정합니다 (관리자만)")
-    public ResponseEntity<SeminarDto> updateSeminar(@PathVariable UUID id, @Valid @RequestBody SeminarCreateRequest request, Authentication authentication) {
+    public ResponseEntity<?> updateSeminar(@PathVariable UUID id, @Valid @RequestBody SeminarCreateRequest request, Authentication authentication) {
         User currentUser = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
@@ -207,15 +278,35 @@ public class SeminarController {
                     .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다"));
         }
 
-        // 세미나 정보 업데이트
-        seminar.setTitle(request.getTitle());
-        seminar.setDescription(request.getDescription());
-        seminar.setDate(request.getDate());
-        seminar.setLocation(request.getLocation());
-        seminar.setCategory(category);
-
-        Seminar updatedSeminar = seminarRepository.save(seminar);
-        return ResponseEntity.ok(new SeminarDto(updatedSeminar));
+        LocalDateTime previousDate = seminar.getDate();
+        UUID previousCategoryId = seminar.getCategory() != null ? seminar.getCategory().getId() : null;
+
+        Category newCategory = category;
+        Seminar updatedSeminar = transactionTemplate.execute(status -> {
+            // 정원은 현재 신청자 수보다 줄일 수 없음: DB의 신청자 수로 조건부 UPDATE해서 확인 (읽은 값으로 비교하면 그 사이 신청이 새 정원을 넘길 수 있음)
+            if (request.getCapacity() != null && seminarRepository.updateCapacity(id, request.getCapacity()) == 0) {
+                status.setRollbackOnly();
+                return null;
+            }
+
+            // 세미나 정보 업데이트
+            seminar.setTitle(request.getTitle());
+            seminar.setDescription(request.getDescription());
+            seminar.setDate(request.getDate());
+            seminar.setLocation(request.getLocation());
+            seminar.setCategory(newCategory);
+            seminar.setCapacity(request.getCapacity());
+            seminar.setAdmissionQueue(Boolean.TRUE.equals(request.getAdmissionQueue()));
+            return seminarRepository.save(seminar);
+        });
+        if (updatedSeminar == null) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "정원은 현재 신청자 수보다 작을 수 없습니다"));
+        }
+        eventPublisher.publishEvent(new SeminarChangedEvent(updatedSeminar.getId(), SeminarChangedEvent.ChangeType.UPDATED,
+                previousDate, previousCategoryId));
+        SeminarDto dto = new SeminarDto(updatedSeminar);
+        dto.setAttachments(fileAttachmentRepository.findMetadataBySeminarId(id));
+        return ResponseEntity.ok(dto);
     }
 
     @DeleteMapping("/{id}")
@@ -233,7 +324,12 @@ public class SeminarController {
             return ResponseEntity.status(403).build();
         }
 
-        seminarRepository.delete(seminar);
+        // 함께 지워질 신청 수는 삭제 전에 같은 트랜잭션에서 시계열 통계에 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            statRollupService.recordSeminarDeletion(id);
+            seminarRepository.delete(seminar);
+        });
+        eventPublisher.publishEvent(new SeminarChangedEvent(id, SeminarChangedEvent.ChangeType.DELETED));
         return ResponseEntity.ok().build();
     }
 
@@ -257,10 +353,16 @@ public class SeminarController {
             throw new RuntimeException("이미 종료된 세미나는 마감 처리할 수 없습니다");
         }
 
-        seminar.setIsClosed(true);
-        Seminar savedSeminar = seminarRepository.save(seminar);
+        // 엔티티 저장 대신 조건부 UPDATE (그 사이 다른 관리자가 먼저 마감했으면 0건)
+        if (seminarRepository.updateClosed(id, true, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("이미 마감되었거나 종료된 세미나입니다");
+        }
+        Seminar savedSeminar = seminarRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("세미나를 찾을 수 없습니다"));
+        eventPublisher.publishEvent(new SeminarChangedEvent(id, SeminarChangedEvent.ChangeType.CLOSED));
         
         SeminarDto dto = new SeminarDto(savedSeminar);
+        dto.setAttachments(fileAttachmentRepository.findMetadataBySeminarId(id));
         dto.setUserApplied(seminarApplicationRepository.existsByUserAndSeminar(currentUser, savedSeminar));
         
         return ResponseEntity.ok(dto);
@@ -286,12 +388,57 @@ public class SeminarController {
             throw new RuntimeException("이미 종료된 세미나는 다시 열 수 없습니다");
         }
 
-        seminar.setIsClosed(false);
-        Seminar savedSeminar = seminarRepository.save(seminar);
+        // 엔티티 저장 대신 조건부 UPDATE (그 사이 다른 관리자가 먼저 마감을 취소했으면 0건)
+        if (seminarRepository.updateClosed(id, false, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("마감되지 않았거나 종료된 세미나입니다");
+        }
+        Seminar savedSeminar = seminarRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("세미나를 찾을 수 없습니다"));
+        eventPublisher.publishEvent(new SeminarChangedEvent(id, SeminarChangedEvent.ChangeType.REOPENED));
         
         SeminarDto dto = new SeminarDto(savedSeminar);
+        dto.setAttachments(fileAttachmentRepository.findMetadataBySeminarId(id));
         dto.setUserApplied(seminarApplicationRepository.existsByUserAndSeminar(currentUser, savedSeminar));
         
         return ResponseEntity.ok(dto);
     }
-} 
\ No newline at end of file
+
+    // 세미나 수정 중 다른 관리자가 먼저 수정/마감한 경우 (버전 불일치)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleConcurrentUpdate(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("success", false, "message", "다른 관리자가 세미나를 먼저 수정했습니다. 새로고침 후 다시 시도해 주세요"));
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // size + 1개를 조회한 결과에서 한 페이지를 잘라내고, 다음 페이지가 있으면 마지막 행을 커서로 만든다
+    private SeminarCatalogCache.Page toPage(List<Seminar> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Seminar> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        SeminarCursor next = null;
+        if (hasNext) {
+            Seminar last = page.get(page.size() - 1);
+            next = new SeminarCursor(last.getDate(), last.getId());
+        }
+        return new SeminarCatalogCache.Page(page.stream().map(Seminar::getId).collect(Collectors.toList()), next);
+    }
+
+    // 다음 페이지가 있으면 커서를 헤더로 내려준다
+    private ResponseEntity<List<SeminarDto>> pageResponse(ResponseEntity.BodyBuilder response, SeminarCatalogCache.Page page, User currentUser) {
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().encode());
+        }
+        return response.body(seminarCatalogCache.getSeminars(page.getSeminarIds(), currentUser));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(SeminarCatalogVersion.REVALIDATE)
+                .build();
+    }
+}
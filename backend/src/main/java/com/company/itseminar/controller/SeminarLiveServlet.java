@@ -0,0 +1,42 @@
+package com.company.itseminar.controller;
+
+import com.company.itseminar.service.SeminarCountStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.UUID;
+
+// 세미나 신청자 수 실시간 구독 (GET /api/live/seminars/{id}, text/event-stream)
+// 논블로킹 쓰기를 위해 AsyncContext를 직접 다루므로 Spring MVC 컨트롤러 대신 서블릿으로 등록한다 (SeminarLiveConfig).
+// 인증은 다른 API와 같은 Spring Security 필터 체인에서 처리된다.
+public class SeminarLiveServlet extends HttpServlet {
+
+    private final SeminarCountStream seminarCountStream;
+
+    public SeminarLiveServlet(SeminarCountStream seminarCountStream) {
+        this.seminarCountStream = seminarCountStream;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UUID seminarId = parseSeminarId(request.getPathInfo());
+        if (seminarId == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        seminarCountStream.subscribe(seminarId, request, response);
+    }
+
+    private static UUID parseSeminarId(String pathInfo) {
+        if (pathInfo == null || pathInfo.length() < 2) {
+            return null;
+        }
+        try {
+            return UUID.fromString(pathInfo.substring(1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.itseminar.controller;
+
+import com.company.itseminar.dto.WaitlistEntryDto;
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.entity.WaitlistEntry;
+import com.company.itseminar.repository.SeminarRepository;
+import com.company.itseminar.repository.UserRepository;
+import com.company.itseminar.repository.WaitlistEntryRepository;
+import com.company.itseminar.service.WaitlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@Tag(name = "Waitlist", description = "세미나 대기 신청 관련 API")
+public class WaitlistController {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PostMapping
+    @Operation(summary = "대기 신청", description = "정원이 찬 세미나에 대기 신청합니다 (자리가 나면 먼저 대기한 순서대로 자동 신청)")
+    public ResponseEntity<Map<String, Object>> joinWaitlist(@RequestBody Map<String, String> request, Authentication authentication) {
+        User currentUser = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        String seminarId = request.get("seminarId");
+        if (seminarId == null) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "세미나 ID가 필요합니다"));
+        }
+
+        UUID id = UUID.fromString(seminarId);
+        WaitlistService.JoinResult result = waitlistService.join(currentUser, id);
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", result.getMessage()));
+        }
+
+        // 등록 직후 바로 승급되었을 수 있음
+        Seminar seminar = seminarRepository.getReferenceById(id);
+        return waitlistRepository.findByUserAndSeminar(currentUser, seminar)
+                .<ResponseEntity<Map<String, Object>>>map(entry -> ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "message", result.getMessage(),
+                        "position", waitlistService.getPosition(entry))))
+                .orElseGet(() -> ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "promoted", true,
+                        "message", "빈 좌석이 있어 바로 신청되었습니다")));
+    }
+
+    @DeleteMapping("/{seminarId}")
+    @Operation(summary = "대기 취소", description = "세미나 대기 신청을 취소합니다")
+    public ResponseEntity<Map<String, Object>> leaveWaitlist(@PathVariable UUID seminarId, Authentication authentication) {
+        User currentUser = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        if (!waitlistService.leave(currentUser, seminarId)) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "대기 중인 세미나가 아닙니다"));
+        }
+        return ResponseEntity.ok(Map.of("success", true, "message", "대기 신청이 취소되었습니다"));
+    }
+
+    @GetMapping("/my")
+    @Operation(summary = "내 대기 내역", description = "현재 사용자의 대기 신청과 대기 순번을 조회합니다")
+    public ResponseEntity<List<WaitlistEntryDto>> getMyWaitlist(Authentication authentication) {
+        User currentUser = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        List<WaitlistEntry> entries = waitlistRepository.findByUserOrderByCreatedAtAsc(currentUser);
+        return ResponseEntity.ok(entries.stream()
+                .map(entry -> new WaitlistEntryDto(entry, waitlistService.getPosition(entry)))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.company.itseminar.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+// 여러 세미나 일괄 신청 요청 (/api/applications/batch)
+public class BatchApplicationRequest {
+    
+    // ALL_OR_NOTHING: 하나라도 신청할 수 없으면 모두 신청하지 않음, BEST_EFFORT: 가능한 세미나만 신청
+    public enum Mode {
+        ALL_OR_NOTHING,
+        BEST_EFFORT
+    }
+    
+    @NotEmpty(message = "세미나 ID가 필요합니다")
+    @Size(max = 20, message = "한 번에 20개 세미나까지 신청할 수 있습니다")
+    private List<@NotNull(message = "세미나 ID가 올바르지 않습니다") UUID> seminarIds;
+    
+    private Mode mode = Mode.BEST_EFFORT;
+    
+    // Constructors
+    public BatchApplicationRequest() {}
+    
+    // Getters and Setters
+    public List<UUID> getSeminarIds() {
+        return seminarIds;
+    }
+    
+    public void setSeminarIds(List<UUID> seminarIds) {
+        this.seminarIds = seminarIds;
+    }
+    
+    public Mode getMode() {
+        return mode;
+    }
+    
+    public void setMode(Mode mode) {
+        this.mode = mode != null ? mode : Mode.BEST_EFFORT;
+    }
+}
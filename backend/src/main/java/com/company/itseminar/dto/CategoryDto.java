@@ -37,6 +37,19 @@ public class CategoryDto {
         }
     }
     
+    // 세미나 수를 외부에서 지정하는 생성자 (seminars 컬렉션을 로드하지 않음)
+    public CategoryDto(Category category, Long seminarCount) {
+        this.id = category.getId();
+        this.name = category.getName();
+        this.description = category.getDescription();
+        this.iconName = category.getIconName();
+        this.colorCode = category.getColorCode();
+        this.displayOrder = category.getDisplayOrder();
+        this.isActive = category.getIsActive();
+        this.createdAt = category.getCreatedAt();
+        this.seminarCount = seminarCount;
+    }
+    
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -7,6 +7,7 @@ import java.util.UUID;
 public class FileAttachmentDto {
     
     private UUID id;
+    private UUID seminarId;
     private String fileName;
     private String contentType;
     private Long fileSize;
@@ -17,12 +18,23 @@ public class FileAttachmentDto {
     
     public FileAttachmentDto(FileAttachment fileAttachment) {
         this.id = fileAttachment.getId();
+        this.seminarId = fileAttachment.getSeminar() != null ? fileAttachment.getSeminar().getId() : null;
         this.fileName = fileAttachment.getFileName();
         this.contentType = fileAttachment.getContentType();
         this.fileSize = fileAttachment.getFileSize();
         this.uploadedAt = fileAttachment.getUploadedAt();
     }
     
+    // 메타데이터 전용 조회(JPQL 생성자 표현식)용 생성자
+    public FileAttachmentDto(UUID id, UUID seminarId, String fileName, String contentType, Long fileSize, LocalDateTime uploadedAt) {
+        this.id = id;
+        this.seminarId = seminarId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.uploadedAt = uploadedAt;
+    }
+    
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -32,6 +44,14 @@ public class FileAttachmentDto {
         this.id = id;
     }
     
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+    
+    public void setSeminarId(UUID seminarId) {
+        this.seminarId = seminarId;
+    }
+    
     public String getFileName() {
         return fileName;
     }
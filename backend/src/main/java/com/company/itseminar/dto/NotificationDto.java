@@ -0,0 +1,66 @@
+package com.company.itseminar.dto;
+
+import com.company.itseminar.entity.Notification;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class NotificationDto {
+    
+    private UUID id;
+    private UUID seminarId;
+    private String message;
+    private boolean isRead;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public NotificationDto() {}
+    
+    public NotificationDto(Notification notification) {
+        this.id = notification.getId();
+        this.seminarId = notification.getSeminarId();
+        this.message = notification.getMessage();
+        this.isRead = notification.getIsRead();
+        this.createdAt = notification.getCreatedAt();
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+    
+    public void setSeminarId(UUID seminarId) {
+        this.seminarId = seminarId;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public boolean getIsRead() {
+        return isRead;
+    }
+    
+    public void setIsRead(boolean isRead) {
+        this.isRead = isRead;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
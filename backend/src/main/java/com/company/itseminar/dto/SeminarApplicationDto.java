@@ -2,6 +2,7 @@ package com.company.itseminar.dto;
 
 import com.company.itseminar.entity.SeminarApplication;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public class SeminarApplicationDto {
@@ -25,6 +26,17 @@ public class SeminarApplicationDto {
                         !application.getSeminar().isExpired();
     }
     
+    // 세미나 첨부파일과 카테고리의 세미나 수를 일괄 조회 결과로 채움 (지연 로딩 컬렉션을 건드리지 않음)
+    public SeminarApplicationDto(SeminarApplication application, List<FileAttachmentDto> attachments, Long categorySeminarCount) {
+        this.id = application.getId();
+        this.user = new UserDto(application.getUser());
+        this.seminar = new SeminarDto(application.getSeminar(), attachments, categorySeminarCount);
+        this.appliedAt = application.getAppliedAt();
+        this.canCancel = application.getSeminar().isCancellationAllowed() && 
+                        !application.getSeminar().getIsClosed() && 
+                        !application.getSeminar().isExpired();
+    }
+    
     // Getters and Setters
     public UUID getId() {
         return id;
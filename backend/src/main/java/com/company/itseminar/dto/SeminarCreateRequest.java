@@ -1,5 +1,6 @@
 package com.company.itseminar.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -20,6 +21,11 @@ public class SeminarCreateRequest {
     
     private UUID categoryId; // 선택적 카테고리 ID
     
+    @Min(value = 1, message = "정원은 1명 이상이어야 합니다")
+    private Integer capacity; // 정원 (없으면 제한 없음)
+    
+    private Boolean admissionQueue; // 대기열 모드 여부 (없으면 사용 안 함)
+    
     // Constructors
     public SeminarCreateRequest() {}
     
@@ -78,4 +84,20 @@ public class SeminarCreateRequest {
     public void setCategoryId(UUID categoryId) {
         this.categoryId = categoryId;
     }
+    
+    public Integer getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+    
+    public Boolean getAdmissionQueue() {
+        return admissionQueue;
+    }
+    
+    public void setAdmissionQueue(Boolean admissionQueue) {
+        this.admissionQueue = admissionQueue;
+    }
 } 
\ No newline at end of file
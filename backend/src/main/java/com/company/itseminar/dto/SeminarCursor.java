@@ -0,0 +1,62 @@
+package com.company.itseminar.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// 세미나 목록 키셋 페이지네이션 커서 (seminar_date DESC, id DESC 정렬 기준의 마지막 행)
+// 키워드 검색 결과는 관련도(rank)가 정렬 기준 앞에 추가된다
+// 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출된다
+public class SeminarCursor {
+
+    // 첫 페이지 조회용 센티널 (모든 행보다 뒤에 위치)
+    public static final SeminarCursor FIRST = new SeminarCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), new UUID(-1L, -1L));
+
+    private final LocalDateTime date;
+    private final UUID id;
+    private final Float rank;
+
+    public SeminarCursor(LocalDateTime date, UUID id) {
+        this(date, id, null);
+    }
+
+    public SeminarCursor(LocalDateTime date, UUID id, Float rank) {
+        this.date = date;
+        this.id = id;
+        this.rank = rank;
+    }
+
+    public String encode() {
+        String raw = date + "|" + id + (rank != null ? "|" + rank : "");
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SeminarCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            Float rank = parts.length > 2 ? Float.valueOf(parts[2]) : null;
+            return new SeminarCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]), rank);
+        } catch (Exception e) {
+            throw new RuntimeException("잘못된 페이지 커서입니다");
+        }
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Float getRank() {
+        return rank;
+    }
+}
@@ -5,7 +5,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.ArrayList;
 
 public class SeminarDto {
@@ -20,6 +19,8 @@ public class SeminarDto {
     private LocalDateTime createdAt;
     private List<FileAttachmentDto> attachments;
     private int applicationCount;
+    private Integer capacity;
+    private boolean admissionQueue;
     private CategoryDto category;
     
     @JsonProperty("isUserApplied")
@@ -41,25 +42,12 @@ public class SeminarDto {
         this.createdBy = new UserDto(seminar.getCreatedBy());
         this.createdAt = seminar.getCreatedAt();
         
-        // 첨부파일을 안전하게 로드
-        try {
-            if (seminar.getAttachments() != null && !seminar.getAttachments().isEmpty()) {
-                this.attachments = seminar.getAttachments().stream()
-                        .map(FileAttachmentDto::new)
-                        .collect(Collectors.toList());
-            } else {
-                this.attachments = new ArrayList<>();
-            }
-        } catch (Exception e) {
-            // 첨부파일 로드 실패 시 빈 리스트로 설정
-            this.attachments = new ArrayList<>();
-        }
+        // 첨부파일은 지연 로딩 컬렉션 대신 호출 측에서 메타데이터 조회 결과로 채움 (setAttachments)
+        this.attachments = new ArrayList<>();
         
-        if (seminar.getApplications() != null) {
-            this.applicationCount = seminar.getApplications().size();
-        } else {
-            this.applicationCount = 0;
-        }
+        this.applicationCount = seminar.getApplicationCount();
+        this.capacity = seminar.getCapacity();
+        this.admissionQueue = Boolean.TRUE.equals(seminar.getAdmissionQueue());
         
         this.canCancel = seminar.isCancellationAllowed() && !this.isClosed;
         
@@ -68,7 +56,46 @@ public class SeminarDto {
             this.category = new CategoryDto(seminar.getCategory());
         }
     }
-    
+
+    // 목록 조회용 생성자: 첨부파일과 카테고리의 세미나 수를 일괄 조회 결과로 받아 지연 로딩 컬렉션을 건드리지 않음
+    public SeminarDto(Seminar seminar, List<FileAttachmentDto> attachments, Long categorySeminarCount) {
+        this.id = seminar.getId();
+        this.title = seminar.getTitle();
+        this.description = seminar.getDescription();
+        this.date = seminar.getDate();
+        this.location = seminar.getLocation();
+        this.isClosed = seminar.getIsClosed() || seminar.isExpired();
+        this.createdBy = new UserDto(seminar.getCreatedBy());
+        this.createdAt = seminar.getCreatedAt();
+        this.attachments = attachments != null ? attachments : new ArrayList<>();
+        this.applicationCount = seminar.getApplicationCount();
+        this.capacity = seminar.getCapacity();
+        this.admissionQueue = Boolean.TRUE.equals(seminar.getAdmissionQueue());
+        this.canCancel = seminar.isCancellationAllowed() && !this.isClosed;
+
+        if (seminar.getCategory() != null) {
+            this.category = new CategoryDto(seminar.getCategory(), categorySeminarCount);
+        }
+    }
+
+    // 캐시된 공용 DTO를 요청별로 복사 (사용자별 필드는 복사 후 설정)
+    public SeminarDto(SeminarDto base) {
+        this.id = base.id;
+        this.title = base.title;
+        this.description = base.description;
+        this.date = base.date;
+        this.location = base.location;
+        this.isClosed = base.isClosed;
+        this.createdBy = base.createdBy;
+        this.createdAt = base.createdAt;
+        this.attachments = base.attachments;
+        this.applicationCount = base.applicationCount;
+        this.capacity = base.capacity;
+        this.admissionQueue = base.admissionQueue;
+        this.canCancel = base.canCancel;
+        this.category = base.category;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -150,6 +177,22 @@ public class SeminarDto {
         this.applicationCount = applicationCount;
     }
     
+    public Integer getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+    
+    public boolean isAdmissionQueue() {
+        return admissionQueue;
+    }
+    
+    public void setAdmissionQueue(boolean admissionQueue) {
+        this.admissionQueue = admissionQueue;
+    }
+    
     public boolean isUserApplied() {
         return isUserApplied;
     }
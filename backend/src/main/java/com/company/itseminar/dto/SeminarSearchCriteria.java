@@ -0,0 +1,46 @@
+package com.company.itseminar.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 세미나 검색 조건 (/api/seminars/search 요청 파라미터)
+public class SeminarSearchCriteria {
+
+    private final String keyword;
+    private final UUID categoryId;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Boolean isClosed;
+
+    public SeminarSearchCriteria(String keyword, UUID categoryId, LocalDateTime startDate, LocalDateTime endDate, Boolean isClosed) {
+        this.keyword = keyword != null && !keyword.isBlank() ? keyword.trim() : null;
+        this.categoryId = categoryId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.isClosed = isClosed;
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public Boolean getIsClosed() {
+        return isClosed;
+    }
+}
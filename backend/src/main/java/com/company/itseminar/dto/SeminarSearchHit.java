@@ -0,0 +1,34 @@
+package com.company.itseminar.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 검색 엔진 결과 한 건 (관련도 순 정렬 및 다음 페이지 커서 생성에 필요한 값만 보관)
+public class SeminarSearchHit {
+
+    private final UUID id;
+    private final LocalDateTime date;
+    private final float rank;
+
+    public SeminarSearchHit(UUID id, LocalDateTime date, float rank) {
+        this.id = id;
+        this.date = date;
+        this.rank = rank;
+    }
+
+    public SeminarCursor toCursor() {
+        return new SeminarCursor(date, id, rank);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public float getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,76 @@
+package com.company.itseminar.dto;
+
+import com.company.itseminar.entity.WaitlistEntry;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class WaitlistEntryDto {
+    
+    private UUID id;
+    private UUID seminarId;
+    private String seminarTitle;
+    private LocalDateTime seminarDate;
+    private long position;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public WaitlistEntryDto() {}
+    
+    public WaitlistEntryDto(WaitlistEntry entry, long position) {
+        this.id = entry.getId();
+        this.seminarId = entry.getSeminar().getId();
+        this.seminarTitle = entry.getSeminar().getTitle();
+        this.seminarDate = entry.getSeminar().getDate();
+        this.position = position;
+        this.createdAt = entry.getCreatedAt();
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+    
+    public void setSeminarId(UUID seminarId) {
+        this.seminarId = seminarId;
+    }
+    
+    public String getSeminarTitle() {
+        return seminarTitle;
+    }
+    
+    public void setSeminarTitle(String seminarTitle) {
+        this.seminarTitle = seminarTitle;
+    }
+    
+    public LocalDateTime getSeminarDate() {
+        return seminarDate;
+    }
+    
+    public void setSeminarDate(LocalDateTime seminarDate) {
+        this.seminarDate = seminarDate;
+    }
+    
+    public long getPosition() {
+        return position;
+    }
+    
+    public void setPosition(long position) {
+        this.position = position;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -37,6 +37,11 @@ public class Category {
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
     private List<Seminar> seminars;
     
+    // 낙관적 잠금 및 ETag용 버전 (기존 행은 0으로 채워짐)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
     // Constructors
     public Category() {
         this.createdAt = LocalDateTime.now();
@@ -59,6 +64,10 @@ public class Category {
         this.id = id;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
     public String getName() {
         return name;
     }
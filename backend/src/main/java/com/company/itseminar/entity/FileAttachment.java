@@ -25,8 +25,9 @@ public class FileAttachment {
     @Column(name = "file_size")
     private Long fileSize;
     
-    @Column(name = "file_data", nullable = false)
-    private byte[] fileData;
+    // 파일 내용의 SHA-256 (내용은 AttachmentStorage에 저장)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
     
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt;
@@ -36,13 +37,13 @@ public class FileAttachment {
         this.uploadedAt = LocalDateTime.now();
     }
     
-    public FileAttachment(Seminar seminar, String fileName, String contentType, Long fileSize, byte[] fileData) {
+    public FileAttachment(Seminar seminar, String fileName, String contentType, Long fileSize, String contentHash) {
         this();
         this.seminar = seminar;
         this.fileName = fileName;
         this.contentType = contentType;
         this.fileSize = fileSize;
-        this.fileData = fileData;
+        this.contentHash = contentHash;
     }
     
     // Getters and Setters
@@ -86,12 +87,12 @@ public class FileAttachment {
         this.fileSize = fileSize;
     }
     
-    public byte[] getFileData() {
-        return fileData;
+    public String getContentHash() {
+        return contentHash;
     }
     
-    public void setFileData(byte[] fileData) {
-        this.fileData = fileData;
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
     }
     
     public LocalDateTime getUploadedAt() {
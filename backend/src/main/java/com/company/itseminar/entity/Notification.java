@@ -0,0 +1,95 @@
+package com.company.itseminar.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 사용자 알림 (대기 신청 자동 확정 등)
+// 세미나가 삭제되어도 알림은 남도록 세미나는 외래키 없이 ID만 저장
+@Entity
+@Table(name = "notifications",
+       indexes = @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"))
+public class Notification {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Column(name = "seminar_id")
+    private UUID seminarId;
+    
+    @Column(nullable = false)
+    private String message;
+    
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead = false;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public Notification() {
+        this.createdAt = LocalDateTime.now();
+        this.isRead = false;
+    }
+    
+    public Notification(User user, UUID seminarId, String message) {
+        this();
+        this.user = user;
+        this.seminarId = seminarId;
+        this.message = message;
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+    
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+    
+    public void setSeminarId(UUID seminarId) {
+        this.seminarId = seminarId;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public Boolean getIsRead() {
+        return isRead;
+    }
+    
+    public void setIsRead(Boolean isRead) {
+        this.isRead = isRead;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -6,7 +6,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "seminars")
+@Table(name = "seminars", indexes = {
+        @Index(name = "idx_seminars_date_id", columnList = "seminar_date, id"),
+        @Index(name = "idx_seminars_category_date_id", columnList = "category_id, seminar_date, id")
+})
 public class Seminar {
     
     @Id
@@ -41,10 +44,37 @@ public class Seminar {
     @OneToMany(mappedBy = "seminar", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FileAttachment> attachments;
     
+    @OneToMany(mappedBy = "seminar", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<WaitlistEntry> waitlist;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
     
+    // 신청자 수 (신청/취소 시 UPDATE로만 증감하고 JPA는 이 컬럼을 쓰지 않음, 정기 보정 작업이 있음)
+    @Column(name = "application_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private Integer applicationCount = 0;
+    
+    // 정원 (null이면 제한 없음)
+    @Column
+    private Integer capacity;
+    
+    // 대기열 모드: 신청을 바로 처리하지 않고 입장 대기열에 넣어 일정 속도로 처리
+    @Column(name = "admission_queue", nullable = false, columnDefinition = "boolean default false")
+    private Boolean admissionQueue = false;
+    
+    // 낙관적 잠금 및 ETag용 버전 (기존 행은 0으로 채워짐)
+    // 관리자 수정/마감에만 증가하며, 신청자 수와 첨부파일 변경은 올리지 않는다 (수정 중인 관리자와 충돌하지 않도록)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
+    // 첨부파일 변경 횟수 (상세 ETag용, 업로드/삭제 시 UPDATE로만 증가하고 JPA는 이 컬럼을 쓰지 않음)
+    @Column(name = "attachment_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private Long attachmentVersion = 0L;
+    
     // Constructors
     public Seminar() {
         this.createdAt = LocalDateTime.now();
@@ -89,6 +119,14 @@ public class Seminar {
         this.id = id;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public Long getAttachmentVersion() {
+        return attachmentVersion;
+    }
+    
     public String getTitle() {
         return title;
     }
@@ -145,6 +183,26 @@ public class Seminar {
         this.createdAt = createdAt;
     }
     
+    public Integer getApplicationCount() {
+        return applicationCount;
+    }
+    
+    public Integer getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+    
+    public Boolean getAdmissionQueue() {
+        return admissionQueue;
+    }
+    
+    public void setAdmissionQueue(Boolean admissionQueue) {
+        this.admissionQueue = admissionQueue;
+    }
+    
     public List<SeminarApplication> getApplications() {
         return applications;
     }
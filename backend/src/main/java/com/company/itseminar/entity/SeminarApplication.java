@@ -6,7 +6,13 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "seminar_applications", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "seminar_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "seminar_id"}),
+       indexes = {
+               // 최근 신청 조회 및 대시보드 기간별 신청 수 집계용
+               @Index(name = "idx_seminar_applications_applied_at", columnList = "applied_at"),
+               // 세미나별 신청 조회 (신청자 목록, 세미나 카테고리 변경 시 통계 이동)
+               @Index(name = "idx_seminar_applications_seminar_id", columnList = "seminar_id")
+       })
 public class SeminarApplication {
     
     @Id
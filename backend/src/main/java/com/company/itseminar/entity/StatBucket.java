@@ -0,0 +1,85 @@
+package com.company.itseminar.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// 대시보드 시계열 통계 집계 행 (기간 단위 x 지표 x 구분별 건수)
+// 행은 StatRollupService가 SQL upsert로 증감하며, 엔티티는 테이블 정의용이다.
+@Entity
+@Table(name = "stat_buckets",
+       uniqueConstraints = @UniqueConstraint(name = "uk_stat_buckets_key",
+               columnNames = {"metric", "granularity", "dimension", "bucket_start", "dimension_key"}))
+public class StatBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Metric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    // 기간 시작일 (일: 해당 일, 주: 월요일, 월: 1일)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimension dimension;
+
+    // 카테고리 ID 또는 부서명 (전체 합계와 미분류는 빈 문자열)
+    @Column(name = "dimension_key", nullable = false, length = 100)
+    private String dimensionKey;
+
+    @Column(nullable = false)
+    private long count;
+
+    // 세미나 개최 수(세미나 일시 기준) / 신청 수(신청 시각 기준)
+    public enum Metric {
+        SEMINARS, APPLICATIONS
+    }
+
+    public enum Granularity {
+        DAY, WEEK, MONTH
+    }
+
+    // 카테고리는 세미나의 카테고리, 부서는 세미나 등록자 또는 신청자의 부서
+    public enum Dimension {
+        ALL, CATEGORY, DEPARTMENT
+    }
+
+    public StatBucket() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public String getDimensionKey() {
+        return dimensionKey;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
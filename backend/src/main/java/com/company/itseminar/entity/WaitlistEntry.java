@@ -0,0 +1,72 @@
+package com.company.itseminar.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 세미나 대기 신청 (정원이 찬 세미나에 먼저 대기한 순서대로 자동 신청됨)
+@Entity
+@Table(name = "seminar_waitlist",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "seminar_id"}),
+       indexes = @Index(name = "idx_seminar_waitlist_seminar_created", columnList = "seminar_id, created_at"))
+public class WaitlistEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seminar_id", nullable = false)
+    private Seminar seminar;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public WaitlistEntry() {
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public WaitlistEntry(User user, Seminar seminar) {
+        this();
+        this.user = user;
+        this.seminar = seminar;
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+    
+    public Seminar getSeminar() {
+        return seminar;
+    }
+    
+    public void setSeminar(Seminar seminar) {
+        this.seminar = seminar;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.itseminar.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 세미나 신청/취소 이벤트 (신청자 수 등 파생 데이터 갱신용)
+public class ApplicationChangedEvent {
+
+    public enum ChangeType {
+        APPLIED,
+        CANCELLED,
+        // 신청자 수 보정 작업이 카운터를 고친 경우 (userId 없음)
+        RECOUNTED
+    }
+
+    private final UUID seminarId;
+    private final UUID userId;
+    private final ChangeType changeType;
+    // 세미나 카테고리와 신청자 부서 (신청/취소 시에만, 카테고리/부서별 집계용)
+    private final UUID categoryId;
+    private final String department;
+    // 취소된 신청의 신청 시각 (취소 시에만, 기간별 신청 수 집계용)
+    private final LocalDateTime appliedAt;
+
+    public ApplicationChangedEvent(UUID seminarId, UUID userId, ChangeType changeType) {
+        this(seminarId, userId, changeType, null, null, null);
+    }
+
+    public ApplicationChangedEvent(UUID seminarId, UUID userId, ChangeType changeType, UUID categoryId, String department) {
+        this(seminarId, userId, changeType, categoryId, department, null);
+    }
+
+    public ApplicationChangedEvent(UUID seminarId, UUID userId, ChangeType changeType, UUID categoryId, String department,
+                                   LocalDateTime appliedAt) {
+        this.seminarId = seminarId;
+        this.userId = userId;
+        this.changeType = changeType;
+        this.categoryId = categoryId;
+        this.department = department;
+        this.appliedAt = appliedAt;
+    }
+
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.company.itseminar.event;
+
+import java.util.UUID;
+
+// 세미나 첨부파일 업로드/삭제 이벤트
+public class AttachmentChangedEvent {
+
+    public enum ChangeType {
+        UPLOADED,
+        DELETED
+    }
+
+    private final UUID seminarId;
+    private final ChangeType changeType;
+
+    public AttachmentChangedEvent(UUID seminarId, ChangeType changeType) {
+        this.seminarId = seminarId;
+        this.changeType = changeType;
+    }
+
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
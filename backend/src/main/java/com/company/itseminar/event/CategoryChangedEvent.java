@@ -0,0 +1,17 @@
+package com.company.itseminar.event;
+
+import java.util.UUID;
+
+// 카테고리 생성/수정/비활성화 이벤트
+public class CategoryChangedEvent {
+
+    private final UUID categoryId;
+
+    public CategoryChangedEvent(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.itseminar.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 세미나 변경 이벤트 (검색 색인 등 파생 데이터 갱신용)
+// 트랜잭션 커밋 이후에 처리되도록 @TransactionalEventListener로 구독한다
+public class SeminarChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        CLOSED,
+        REOPENED
+    }
+
+    private final UUID seminarId;
+    private final ChangeType changeType;
+    // 수정 전 일시/카테고리 (수정 시에만, 기간별 통계 이동용)
+    private final LocalDateTime previousDate;
+    private final UUID previousCategoryId;
+
+    public SeminarChangedEvent(UUID seminarId, ChangeType changeType) {
+        this(seminarId, changeType, null, null);
+    }
+
+    public SeminarChangedEvent(UUID seminarId, ChangeType changeType, LocalDateTime previousDate, UUID previousCategoryId) {
+        this.seminarId = seminarId;
+        this.changeType = changeType;
+        this.previousDate = previousDate;
+        this.previousCategoryId = previousCategoryId;
+    }
+
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public LocalDateTime getPreviousDate() {
+        return previousDate;
+    }
+
+    public UUID getPreviousCategoryId() {
+        return previousCategoryId;
+    }
+}
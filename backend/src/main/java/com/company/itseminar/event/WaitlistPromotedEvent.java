@@ -0,0 +1,29 @@
+package com.company.itseminar.event;
+
+import java.util.UUID;
+
+// 대기 신청이 자동으로 확정된 이벤트 (알림 발송용)
+public class WaitlistPromotedEvent {
+
+    private final UUID seminarId;
+    private final String seminarTitle;
+    private final UUID userId;
+
+    public WaitlistPromotedEvent(UUID seminarId, String seminarTitle, UUID userId) {
+        this.seminarId = seminarId;
+        this.seminarTitle = seminarTitle;
+        this.userId = userId;
+    }
+
+    public UUID getSeminarId() {
+        return seminarId;
+    }
+
+    public String getSeminarTitle() {
+        return seminarTitle;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
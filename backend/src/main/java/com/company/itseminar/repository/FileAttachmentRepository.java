@@ -1,15 +1,30 @@
 package com.company.itseminar.repository;
 
+import com.company.itseminar.dto.FileAttachmentDto;
 import com.company.itseminar.entity.FileAttachment;
-import com.company.itseminar.entity.Seminar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface FileAttachmentRepository extends JpaRepository<FileAttachment, UUID> {
     
-    List<FileAttachment> findBySeminarOrderByUploadedAtDesc(Seminar seminar);
+    // 세미나 한 건의 첨부파일 메타데이터 조회 (파일 데이터 제외)
+    @Query("SELECT new com.company.itseminar.dto.FileAttachmentDto(" +
+           "a.id, a.seminar.id, a.fileName, a.contentType, a.fileSize, a.uploadedAt) " +
+           "FROM FileAttachment a WHERE a.seminar.id = :seminarId " +
+           "ORDER BY a.uploadedAt DESC")
+    List<FileAttachmentDto> findMetadataBySeminarId(@Param("seminarId") UUID seminarId);
+    
+    // 여러 세미나의 첨부파일 메타데이터 일괄 조회 (파일 데이터 제외)
+    @Query("SELECT new com.company.itseminar.dto.FileAttachmentDto(" +
+           "a.id, a.seminar.id, a.fileName, a.contentType, a.fileSize, a.uploadedAt) " +
+           "FROM FileAttachment a WHERE a.seminar.id IN :seminarIds " +
+           "ORDER BY a.uploadedAt DESC")
+    List<FileAttachmentDto> findMetadataBySeminarIds(@Param("seminarIds") Collection<UUID> seminarIds);
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.company.itseminar.repository;
+
+import com.company.itseminar.entity.Notification;
+import com.company.itseminar.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+    
+    List<Notification> findTop50ByUserOrderByCreatedAtDesc(User user);
+}
@@ -3,17 +3,24 @@ package com.company.itseminar.repository;
 import com.company.itseminar.entity.Seminar;
 import com.company.itseminar.entity.SeminarApplication;
 import com.company.itseminar.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface SeminarApplicationRepository extends JpaRepository<SeminarApplication, UUID> {
     
+    // 내 신청 내역 (세미나와 카테고리/작성자 함께 조회)
+    @EntityGraph(attributePaths = {"seminar", "seminar.category", "seminar.createdBy"})
     List<SeminarApplication> findByUserOrderByAppliedAtDesc(User user);
     
     List<SeminarApplication> findBySeminarOrderByAppliedAtDesc(Seminar seminar);
@@ -26,5 +33,15 @@ public interface SeminarApplicationRepository extends JpaRepository<SeminarAppli
     
     List<SeminarApplication> findByAppliedAtAfter(LocalDateTime date);
     
+    // 대시보드 최근 신청 (신청자/세미나 함께 조회)
+    @EntityGraph(attributePaths = {"user", "seminar"})
     List<SeminarApplication> findTop10ByOrderByAppliedAtDesc();
+    
+    // 사용자가 신청한 세미나 ID 목록 (목록 조회 시 신청 여부 일괄 판별용)
+    @Query("SELECT a.seminar.id FROM SeminarApplication a WHERE a.user = :user")
+    Set<UUID> findSeminarIdsByUser(@Param("user") User user);
+    
+    // 일괄 신청 시 이미 신청한 세미나 ID (요청한 세미나로 한정)
+    @Query("SELECT a.seminar.id FROM SeminarApplication a WHERE a.user = :user AND a.seminar.id IN :seminarIds")
+    Set<UUID> findSeminarIdsByUserAndSeminarIdIn(@Param("user") User user, @Param("seminarIds") Collection<UUID> seminarIds);
 } 
\ No newline at end of file
@@ -3,42 +3,65 @@ package com.company.itseminar.repository;
 import com.company.itseminar.entity.Category;
 import com.company.itseminar.entity.Seminar;
 import com.company.itseminar.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface SeminarRepository extends JpaRepository<Seminar, UUID> {
+public interface SeminarRepository extends JpaRepository<Seminar, UUID>, JpaSpecificationExecutor<Seminar> {
     
-    List<Seminar> findByOrderByDateDesc();
+    // 대시보드 최근 세미나 (LIMIT 10, 작성자/카테고리 함께 조회)
+    @EntityGraph(attributePaths = {"createdBy", "category"})
+    List<Seminar> findTop10ByOrderByDateDesc();
     
     List<Seminar> findByCreatedByOrderByDateDesc(User createdBy);
     
     @Query("SELECT s FROM Seminar s WHERE s.date < :now AND s.isClosed = false")
     List<Seminar> findExpiredSeminars(LocalDateTime now);
     
+    // 키셋 페이지 조회: (date, id)가 커서보다 앞선 행을 date DESC, id DESC 순으로 조회
+    // s.date <= :cursorDate 조건은 (seminar_date, id) 인덱스의 탐색 시작점을 커서 위치로 잡기 위함
+    @Query("SELECT s FROM Seminar s WHERE " +
+           "s.date <= :cursorDate AND (s.date < :cursorDate OR s.id < :cursorId) " +
+           "ORDER BY s.date DESC, s.id DESC")
+    @EntityGraph(attributePaths = {"createdBy", "category"})
+    List<Seminar> findPage(
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+    
+    // 카테고리별 키셋 페이지 조회
+    @Query("SELECT s FROM Seminar s WHERE s.category = :category AND " +
+           "s.date <= :cursorDate AND (s.date < :cursorDate OR s.id < :cursorId) " +
+           "ORDER BY s.date DESC, s.id DESC")
+    @EntityGraph(attributePaths = {"createdBy", "category"})
+    List<Seminar> findPageByCategory(
+            @Param("category") Category category,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+    
     // 카테고리별 검색
+    @EntityGraph(attributePaths = {"createdBy", "category"})
     List<Seminar> findByCategoryOrderByDateDesc(Category category);
     
-    // 제목 또는 설명으로 검색
-    @Query("SELECT s FROM Seminar s WHERE " +
-           "LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY s.date DESC")
-    List<Seminar> findByTitleOrDescriptionContainingIgnoreCase(@Param("keyword") String keyword);
-    
-    // 카테고리와 키워드로 검색
-    @Query("SELECT s FROM Seminar s WHERE " +
-           "s.category = :category AND " +
-           "(LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "ORDER BY s.date DESC")
-    List<Seminar> findByCategoryAndKeyword(@Param("category") Category category, @Param("keyword") String keyword);
+    // ID 목록으로 조회 (검색 엔진 결과의 최종 행 조회용, 순서는 호출 측에서 맞춤)
+    @EntityGraph(attributePaths = {"createdBy", "category"})
+    List<Seminar> findByIdIn(Collection<UUID> ids);
     
     // 날짜 범위로 검색
     @Query("SELECT s FROM Seminar s WHERE s.date BETWEEN :startDate AND :endDate ORDER BY s.date DESC")
@@ -47,31 +70,72 @@ public interface SeminarRepository extends JpaRepository<Seminar, UUID> {
     // 마감 상태로 검색
     List<Seminar> findByIsClosedOrderByDateDesc(Boolean isClosed);
     
-    // 복합 검색 (모든 조건)
-    @Query("SELECT s FROM Seminar s WHERE " +
-           "(:category IS NULL OR s.category = :category) AND " +
-           "(:keyword IS NULL OR LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "(:startDate IS NULL OR s.date >= :startDate) AND " +
-           "(:endDate IS NULL OR s.date <= :endDate) AND " +
-           "(:isClosed IS NULL OR s.isClosed = :isClosed) " +
-           "ORDER BY s.date DESC")
-    List<Seminar> findWithFilters(
-            @Param("category") Category category,
-            @Param("keyword") String keyword,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("isClosed") Boolean isClosed
-    );
+    // ETag 비교용 버전/신청자 수/첨부파일 버전/날짜만 조회 (엔티티를 로드하지 않음)
+    @Query("SELECT s.version AS version, s.applicationCount AS applicationCount, " +
+           "s.attachmentVersion AS attachmentVersion, s.date AS date FROM Seminar s WHERE s.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") UUID id);
+    
+    // 첨부파일 업로드/삭제를 상세 ETag에 반영 (낙관적 잠금 버전은 건드리지 않아 관리자 수정과 충돌하지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Seminar s SET s.attachmentVersion = s.attachmentVersion + 1 WHERE s.id = :id")
+    int incrementAttachmentVersion(@Param("id") UUID id);
+    
+    // 마감/마감 취소: 현재 상태가 반대일 때만 바꾸는 조건부 단일 UPDATE (신청자 수 갱신과 충돌하지 않음)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Seminar s SET s.isClosed = :closed, s.version = s.version + 1 " +
+           "WHERE s.id = :id AND s.isClosed <> :closed AND s.date > :now")
+    int updateClosed(@Param("id") UUID id, @Param("closed") boolean closed, @Param("now") LocalDateTime now);
+    
+    // 대기자 승급용 좌석 확보: 마감/종료 전이고 정원이 남아 있을 때만 신청자 수를 1 증가 (조건부 단일 UPDATE)
+    // 대기자 유무와 무관 (직접 신청은 SeminarRegistrationService에서 대기자가 없을 때만 좌석을 확보함)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Seminar s SET s.applicationCount = s.applicationCount + 1 " +
+           "WHERE s.id = :id AND s.isClosed = false AND s.date > :now " +
+           "AND (s.capacity IS NULL OR s.applicationCount < s.capacity)")
+    int claimWaitlistSeat(@Param("id") UUID id, @Param("now") LocalDateTime now);
+    
+    // 정원 변경: 현재 신청자 수 이상일 때만 (조건부 단일 UPDATE, 커밋까지 행을 잠가 그 사이의 좌석 확보는 새 정원으로 판단됨)
+    // 버전은 올리지 않음 (같은 트랜잭션에서 이어지는 세미나 수정 저장이 올림)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Seminar s SET s.capacity = :capacity WHERE s.id = :id AND s.applicationCount <= :capacity")
+    int updateCapacity(@Param("id") UUID id, @Param("capacity") Integer capacity);
+    
+    // 신청 취소 시 신청자 수 1 감소
+    @Modifying
+    @Transactional
+    @Query("UPDATE Seminar s SET s.applicationCount = s.applicationCount - 1 " +
+           "WHERE s.id = :id AND s.applicationCount > 0")
+    int decrementApplicationCount(@Param("id") UUID id);
     
-    // 카테고리별 세미나 수 집계
-    @Query("SELECT COUNT(s) FROM Seminar s WHERE s.category = :category")
-    Long countByCategory(@Param("category") Category category);
-    
-    // 월별 세미나 통계
-    @Query("SELECT YEAR(s.date) as year, MONTH(s.date) as month, COUNT(s) as count " +
-           "FROM Seminar s " +
-           "GROUP BY YEAR(s.date), MONTH(s.date) " +
-           "ORDER BY YEAR(s.date) DESC, MONTH(s.date) DESC")
-    List<Object[]> findMonthlySeminarStats();
-} 
\ No newline at end of file
+    // 지금 이후 가장 가까운 세미나 일시 (마감/취소 가능 여부가 바뀌는 시점 계산용)
+    @Query("SELECT MIN(s.date) FROM Seminar s WHERE s.date > :after")
+    LocalDateTime findNextDateAfter(@Param("after") LocalDateTime after);
+
+    // 대기열 모드 세미나 ID (기동 시 대기열 대상 목록 적재용)
+    @Query("SELECT s.id FROM Seminar s WHERE s.admissionQueue = true")
+    List<UUID> findAdmissionQueueIds();
+
+    @Query("SELECT s.admissionQueue FROM Seminar s WHERE s.id = :id")
+    Optional<Boolean> findAdmissionQueueById(@Param("id") UUID id);
+
+    // 카테고리별 세미나 수 (목록 DTO의 카테고리 정보용, 세미나가 없는 카테고리는 결과 없음)
+    @Query("SELECT s.category.id AS categoryId, COUNT(s) AS seminarCount FROM Seminar s " +
+           "WHERE s.category.id IN :categoryIds GROUP BY s.category.id")
+    List<CategorySeminarCount> countByCategoryIds(@Param("categoryIds") Collection<UUID> categoryIds);
+
+    interface CategorySeminarCount {
+        UUID getCategoryId();
+        Long getSeminarCount();
+    }
+
+    interface VersionView {
+        Long getVersion();
+        Integer getApplicationCount();
+        Long getAttachmentVersion();
+        LocalDateTime getDate();
+    }
+}
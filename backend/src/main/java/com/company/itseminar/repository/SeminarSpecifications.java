@@ -0,0 +1,54 @@
+package com.company.itseminar.repository;
+
+import com.company.itseminar.dto.SeminarCursor;
+import com.company.itseminar.entity.Seminar;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 세미나 복합 검색 조건
+// 값이 주어진 조건만 쿼리에 포함되도록 null 이면 null Specification을 반환한다
+public class SeminarSpecifications {
+
+    private SeminarSpecifications() {}
+
+    public static Specification<Seminar> categoryIdEquals(UUID categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Seminar> dateFrom(LocalDateTime startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    public static Specification<Seminar> dateTo(LocalDateTime endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+
+    public static Specification<Seminar> isClosedEquals(Boolean isClosed) {
+        if (isClosed == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("isClosed"), isClosed);
+    }
+
+    // 키셋 커서 이후 행: date <= :date AND (date < :date OR id < :id)
+    public static Specification<Seminar> after(SeminarCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("date"), cursor.getDate()),
+                cb.or(
+                        cb.lessThan(root.get("date"), cursor.getDate()),
+                        cb.lessThan(root.get("id"), cursor.getId())
+                )
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.itseminar.repository;
+
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.entity.WaitlistEntry;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+    
+    Optional<WaitlistEntry> findByUserAndSeminar(User user, Seminar seminar);
+    
+    boolean existsBySeminar(Seminar seminar);
+    
+    @EntityGraph(attributePaths = {"seminar"})
+    List<WaitlistEntry> findByUserOrderByCreatedAtAsc(User user);
+    
+    // 대기 순번 계산용: 나보다 먼저 대기한 인원
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.seminar.id = :seminarId AND w.createdAt < :createdAt")
+    long countAhead(@Param("seminarId") UUID seminarId, @Param("createdAt") LocalDateTime createdAt);
+    
+    // 가장 먼저 대기한 항목을 잠금 (다른 승급 작업이 잠근 항목은 건너뛰어 동시 취소 시 서로 기다리지 않음)
+    @Query(value = "SELECT * FROM seminar_waitlist WHERE seminar_id = :seminarId " +
+                   "ORDER BY created_at, id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<WaitlistEntry> lockNext(@Param("seminarId") UUID seminarId);
+}
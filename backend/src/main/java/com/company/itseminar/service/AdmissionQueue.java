@@ -0,0 +1,364 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.company.itseminar.repository.SeminarRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 세미나 신청 입장 대기열
+// 대기열 모드 세미나의 신청은 바로 처리하지 않고 대기표를 발급한 뒤, 디스패처가 설정된 속도로 꺼내 처리한다.
+// 신청이 한꺼번에 몰려도 요청 스레드는 메모리 작업만 하고 돌아가므로, DB 커넥션은 정해진 작업 스레드 수만큼만 쓰인다.
+// 대기표는 메모리에만 있으며 (서버 재시작 시 사라짐), 완료 후 ticket-ttl 동안 조회할 수 있다.
+@Service
+public class AdmissionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionQueue.class);
+
+    // 디스패처 실행 간격
+    private static final long TICK_MILLIS = 100;
+
+    public enum TicketStatus {
+        WAITING,
+        PROCESSING,
+        DONE
+    }
+
+    @Autowired
+    private SeminarRegistrationService seminarRegistrationService;
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    // 초당 처리할 신청 수
+    @Value("${seminar.admission.rate:20}")
+    private double rate;
+
+    // 동시에 처리할 신청 수 (DB 커넥션 사용 상한)
+    @Value("${seminar.admission.workers:4}")
+    private int workerCount;
+
+    @Value("${seminar.admission.max-waiting:10000}")
+    private int maxWaiting;
+
+    @Value("${seminar.admission.ticket-ttl:5m}")
+    private Duration ticketTtl;
+
+    // 대기열 모드 세미나 ID (신청 요청마다 DB를 조회하지 않도록 메모리에 유지)
+    private final Set<UUID> queueSeminars = ConcurrentHashMap.newKeySet();
+
+    private final Map<UUID, SeminarQueue> queues = new ConcurrentHashMap<>();
+    private final Map<UUID, Ticket> tickets = new ConcurrentHashMap<>();
+    // 세미나 + 사용자별 진행 중인 대기표 (같은 사용자의 중복 대기 방지)
+    private final Map<String, Ticket> ticketsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+
+    private ScheduledExecutorService dispatcher;
+    private ExecutorService workers;
+    private Semaphore permits;
+
+    // 디스패처 스레드에서만 사용
+    private double budget;
+    private long lastPurge;
+    // 세미나 처리 순번: 맨 앞 세미나에서 한 건 꺼낸 뒤 맨 뒤로 보내므로, 틱마다 예산이 적어도 다음 틱에 이어서 돌아가며 처리
+    private final ArrayDeque<UUID> rotation = new ArrayDeque<>();
+    private final Set<UUID> rotating = new HashSet<>();
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(workerCount);
+        workers = Executors.newFixedThreadPool(workerCount, namedThreads("admission-worker-"));
+        dispatcher = Executors.newSingleThreadScheduledExecutor(namedThreads("admission-dispatcher-"));
+        dispatcher.scheduleAtFixedRate(this::dispatchSafely, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        workers.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadQueueSeminars() {
+        queueSeminars.addAll(seminarRepository.findAdmissionQueueIds());
+    }
+
+    public boolean isQueued(UUID seminarId) {
+        return queueSeminars.contains(seminarId);
+    }
+
+    // 대기표 발급 (같은 사용자가 이미 대기 중이면 기존 대기표), 대기 인원이 가득 차면 null
+    public Ticket enqueue(String username, UUID seminarId) {
+        String userKey = seminarId + ":" + username;
+        Ticket[] issued = new Ticket[1];
+        Ticket ticket = ticketsByUser.compute(userKey, (key, existing) -> {
+            if (existing != null && existing.status != TicketStatus.DONE) {
+                return existing;
+            }
+            // 자리를 먼저 예약해 서로 다른 사용자의 동시 발급이 최대 대기 인원을 넘지 않게 함
+            if (waitingCount.incrementAndGet() > maxWaiting) {
+                waitingCount.decrementAndGet();
+                return existing;
+            }
+            Ticket created = new Ticket(seminarId, username);
+            // 빈 대기열 정리(purge)와 겹치지 않도록 대기열 맵의 같은 키 잠금 안에서 추가
+            queues.compute(seminarId, (id, queue) -> {
+                SeminarQueue target = queue != null ? queue : new SeminarQueue();
+                target.offer(created);
+                return target;
+            });
+            tickets.put(created.id, created);
+            issued[0] = created;
+            return created;
+        });
+        if (issued[0] == null && (ticket == null || ticket.status == TicketStatus.DONE)) {
+            return null;
+        }
+        return ticket;
+    }
+
+    public Ticket getTicket(UUID ticketId) {
+        return tickets.get(ticketId);
+    }
+
+    // 대기 순번 (1부터, 대기 중이 아니면 0)
+    public long getPosition(Ticket ticket) {
+        if (ticket.status != TicketStatus.WAITING) {
+            return 0;
+        }
+        SeminarQueue queue = queues.get(ticket.seminarId);
+        return queue != null ? queue.positionOf(ticket) : 0;
+    }
+
+    // 현재 처리 속도 기준 예상 대기 시간(초)
+    public long estimateWaitSeconds(long position) {
+        return (long) Math.ceil(position / rate);
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            // 예외로 스케줄이 중단되지 않도록 기록만 한다
+            log.error("입장 대기열 처리 실패", e);
+        }
+    }
+
+    private void dispatch() {
+        double perTick = rate * TICK_MILLIS / 1000.0;
+        budget = Math.min(budget + perTick, Math.max(1.0, perTick));
+
+        // 정원이 찬 세미나의 대기표는 처리 속도와 무관하게 바로 마감 처리
+        for (Map.Entry<UUID, SeminarQueue> entry : queues.entrySet()) {
+            if (seminarRegistrationService.isSoldOut(entry.getKey())) {
+                Ticket ticket;
+                while ((ticket = entry.getValue().poll()) != null) {
+                    waitingCount.decrementAndGet();
+                    ticket.complete(SeminarRegistrationService.ApplyResult.FULL.isSuccess(),
+                            SeminarRegistrationService.ApplyResult.FULL.getMessage());
+                }
+            }
+        }
+
+        // 세미나별로 번갈아 하나씩 꺼내 처리 (한 세미나가 처리량을 독점하지 않도록)
+        // 순번은 틱을 넘어 이어지므로 틱당 예산이 세미나 수보다 적어도 앞쪽 세미나만 처리되지 않는다
+        for (UUID seminarId : queues.keySet()) {
+            if (rotating.add(seminarId)) {
+                rotation.addLast(seminarId);
+            }
+        }
+        int idle = 0;
+        while (budget >= 1.0 && idle < rotation.size()) {
+            UUID seminarId = rotation.peekFirst();
+            SeminarQueue queue = queues.get(seminarId);
+            if (queue == null) {
+                // 정리된 대기열
+                rotation.pollFirst();
+                rotating.remove(seminarId);
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                break;
+            }
+            rotation.addLast(rotation.pollFirst());
+            Ticket ticket = queue.poll();
+            if (ticket == null) {
+                permits.release();
+                idle++;
+                continue;
+            }
+            idle = 0;
+            waitingCount.decrementAndGet();
+            budget -= 1.0;
+            ticket.status = TicketStatus.PROCESSING;
+            workers.execute(() -> process(ticket));
+        }
+
+        long now = System.nanoTime();
+        if (now - lastPurge > TimeUnit.SECONDS.toNanos(1)) {
+            lastPurge = now;
+            purge(now);
+        }
+    }
+
+    private void process(Ticket ticket) {
+        try {
+            SeminarRegistrationService.ApplyResult result = seminarRegistrationService.apply(ticket.username, ticket.seminarId);
+            ticket.complete(result.isSuccess(), result.getMessage());
+        } catch (RuntimeException e) {
+            ticket.complete(false, e.getMessage() != null ? e.getMessage() : "세미나 신청에 실패했습니다");
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 보관 시간이 지난 완료 대기표와, 대기열 모드가 아니게 된 세미나의 빈 대기열 정리
+    private void purge(long now) {
+        long ttlNanos = ticketTtl.toNanos();
+        tickets.values().removeIf(ticket -> {
+            if (ticket.status != TicketStatus.DONE || now - ticket.completedAt < ttlNanos) {
+                return false;
+            }
+            ticketsByUser.remove(ticket.seminarId + ":" + ticket.username, ticket);
+            return true;
+        });
+        // enqueue의 compute와 같은 키 잠금에서 확인하고 지워, 방금 추가된 대기표가 있는 대기열을 지우지 않음
+        for (UUID seminarId : queues.keySet()) {
+            queues.computeIfPresent(seminarId, (id, queue) -> queue.isEmpty() && !queueSeminars.contains(id) ? null : queue);
+        }
+    }
+
+    // 대기열 모드 전환 반영 (이미 대기 중인 대기표는 그대로 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        if (event.getChangeType() == SeminarChangedEvent.ChangeType.DELETED) {
+            queueSeminars.remove(event.getSeminarId());
+            return;
+        }
+        if (seminarRepository.findAdmissionQueueById(event.getSeminarId()).orElse(false)) {
+            queueSeminars.add(event.getSeminarId());
+        } else {
+            queueSeminars.remove(event.getSeminarId());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("queueSeminars", queueSeminars.size());
+        stats.put("waiting", waitingCount.get());
+        stats.put("processing", workerCount - permits.availablePermits());
+        stats.put("tickets", tickets.size());
+        stats.put("rate", rate);
+        return stats;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // 대기표
+    public static class Ticket {
+
+        private final UUID id = UUID.randomUUID();
+        private final UUID seminarId;
+        private final String username;
+        private long sequence;
+        private volatile TicketStatus status = TicketStatus.WAITING;
+        private volatile boolean success;
+        private volatile String message;
+        private volatile long completedAt;
+
+        Ticket(UUID seminarId, String username) {
+            this.seminarId = seminarId;
+            this.username = username;
+        }
+
+        void complete(boolean success, String message) {
+            this.success = success;
+            this.message = message;
+            this.completedAt = System.nanoTime();
+            this.status = TicketStatus.DONE;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public UUID getSeminarId() {
+            return seminarId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public TicketStatus getStatus() {
+            return status;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    // 세미나별 대기열: 발급 순번과 꺼낸 수로 대기 순번을 계산한다
+    private static class SeminarQueue {
+
+        private final ArrayDeque<Ticket> waiting = new ArrayDeque<>();
+        private long issued;
+        private long dispatched;
+
+        synchronized void offer(Ticket ticket) {
+            ticket.sequence = ++issued;
+            waiting.offer(ticket);
+        }
+
+        synchronized Ticket poll() {
+            Ticket ticket = waiting.poll();
+            if (ticket != null) {
+                dispatched++;
+            }
+            return ticket;
+        }
+
+        synchronized long positionOf(Ticket ticket) {
+            return Math.max(1, ticket.sequence - dispatched);
+        }
+
+        synchronized boolean isEmpty() {
+            return waiting.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.ApplicationChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+// seminars.application_count 보정 작업
+// 신청/취소는 카운터를 원자적으로 증감하지만, 직접 SQL 수정이나 장애로 생긴 차이를 주기적으로 바로잡는다.
+// 기동 직후 1회 실행되므로 컬럼이 새로 추가된 경우의 초기값 채우기도 겸한다.
+@Service
+public class ApplicationCountReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationCountReconciler.class);
+
+    private static final String FIND_DRIFTED_SQL =
+            "SELECT s.id FROM seminars s " +
+            "LEFT JOIN seminar_applications a ON a.seminar_id = s.id " +
+            "GROUP BY s.id, s.application_count " +
+            "HAVING s.application_count <> COUNT(a.id)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${seminar.application-count.reconcile-interval:PT10M}")
+    public void reconcile() {
+        List<UUID> drifted = jdbcTemplate.queryForList(FIND_DRIFTED_SQL, UUID.class);
+        int fixed = 0;
+        for (UUID seminarId : drifted) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> recount(seminarId)))) {
+                fixed++;
+            }
+        }
+        if (fixed > 0) {
+            log.info("세미나 신청자 수 보정: {}건", fixed);
+        }
+    }
+
+    // 세미나 행을 잠근 뒤 다시 집계한다.
+    // 진행 중인 신청/취소는 카운터 UPDATE에서 이 잠금을 기다리므로, 잠금 이후의 COUNT와 어긋나지 않는다.
+    private boolean recount(UUID seminarId) {
+        List<Integer> stored = jdbcTemplate.queryForList(
+                "SELECT application_count FROM seminars WHERE id = ? FOR UPDATE", Integer.class, seminarId);
+        if (stored.isEmpty()) {
+            return false;
+        }
+        Integer actual = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM seminar_applications WHERE seminar_id = ?", Integer.class, seminarId);
+        if (actual.equals(stored.get(0))) {
+            return false;
+        }
+        jdbcTemplate.update(
+                "UPDATE seminars SET application_count = ? WHERE id = ?", actual, seminarId);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(seminarId, null, ApplicationChangedEvent.ChangeType.RECOUNTED));
+        return true;
+    }
+}
@@ -0,0 +1,183 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.entity.FileAttachment;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+
+// 첨부파일 다운로드 응답 (내용을 힙에 올리지 않고 전송)
+// 자주 받는 작은 파일은 OffHeapAttachmentCache(힙 밖 메모리)에서 보내고,
+// 그 밖의 로컬 디스크 파일은 Tomcat sendfile로 커널이 바로 소켓에 보내며, 지원하지 않으면 FileChannel.transferTo로 보낸다.
+// 내용 해시를 강한 ETag로 쓰며 Range / If-Range(부분 전송, 이어받기)와 If-None-Match / If-Modified-Since(304)를 처리한다.
+@Service
+public class AttachmentDownloadService {
+
+    // Tomcat이 요청 속성으로 제공하는 sendfile 연동 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Autowired
+    private LegacyAttachmentMigrator legacyAttachmentMigrator;
+
+    @Autowired
+    private OffHeapAttachmentCache attachmentCache;
+
+    public void send(FileAttachment attachment, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachment.getFileName() + "\"");
+        response.setContentType(attachment.getContentType() != null ? attachment.getContentType() : "application/octet-stream");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, SeminarCatalogVersion.REVALIDATE.getHeaderValue());
+
+        // 아직 저장소로 이전하지 않은 행 (DB의 file_data 전체 전송)
+        if (attachment.getContentHash() == null) {
+            byte[] content = legacyAttachmentMigrator.readLegacy(attachment.getId());
+            response.setContentLength(content.length);
+            if (!isHead(request)) {
+                response.getOutputStream().write(content);
+            }
+            return;
+        }
+
+        String hash = attachment.getContentHash();
+        String etag = "\"" + hash + "\"";
+        // HTTP 날짜는 초 단위이므로 비교도 초 단위로
+        long lastModified = attachment.getUploadedAt().atZone(ZoneId.systemDefault()).toEpochSecond() * 1000;
+        Path file = attachmentStorage.localFile(hash);
+        long length = file != null ? Files.size(file) : attachment.getFileSize();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            if (length == 0 || range.getRangeStart(length) >= length) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length) + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+        }
+        response.setContentLengthLong(end - start);
+
+        if (isHead(request) || end == start) {
+            return;
+        }
+        if (attachmentCache.isCacheable(length)) {
+            OffHeapAttachmentCache.Entry cached = attachmentCache.acquire(hash, length);
+            if (cached != null) {
+                try {
+                    attachmentCache.writeTo(cached, start, end, response.getOutputStream());
+                } finally {
+                    attachmentCache.release(cached);
+                }
+                return;
+            }
+        }
+        if (file != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 Tomcat이 요청 처리 후 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+        } else if (file != null) {
+            transfer(file, start, end, response.getOutputStream());
+        } else {
+            try (InputStream content = attachmentStorage.open(hash)) {
+                StreamUtils.copyRange(content, response.getOutputStream(), start, end - 1);
+            }
+        }
+    }
+
+    private static void transfer(Path file, long start, long end, OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = start;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent <= 0) {
+                    throw new IOException("첨부파일 전송이 중단되었습니다");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    // If-None-Match가 있으면 그것만 보고, 없을 때 If-Modified-Since를 본다
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return SeminarCatalogVersion.matches(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    // 단일 구간 요청만 부분 전송하고, 여러 구간이거나 형식이 잘못됐거나 If-Range가 맞지 않으면 전체를 보낸다 (RFC 9110 허용)
+    private static HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !ifRangeMatches(request, etag, lastModified)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    // If-Range는 강한 ETag 또는 정확히 같은 Last-Modified일 때만 일치
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        return dateHeader(request, HttpHeaders.IF_RANGE) == lastModified;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static boolean isHead(HttpServletRequest request) {
+        return "HEAD".equals(request.getMethod());
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.itseminar.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+// 첨부파일 내용 저장소 (내용의 SHA-256 해시로 주소를 매김)
+// 같은 내용은 한 번만 저장되며, DB의 file_attachments에는 메타데이터와 해시만 남는다.
+// 저장소의 내용은 지우지 않고 참조가 끊긴 내용만 AttachmentStorageSweeper가 정리한다.
+public interface AttachmentStorage {
+
+    // 스트림을 끝까지 읽어 저장하고 해시(16진수 소문자 64자)와 크기를 반환 (이미 있는 내용이면 다시 쓰지 않음)
+    // 내용 전체를 메모리에 올리지 않으며, 스트림은 호출한 쪽에서 닫는다
+    StoredContent store(InputStream content) throws IOException;
+
+    InputStream open(String hash) throws IOException;
+
+    // 내용이 로컬 디스크 파일이면 그 경로 (sendfile 전송용), 아니면 null
+    default Path localFile(String hash) {
+        return null;
+    }
+
+    boolean exists(String hash);
+
+    // 마지막 저장 시각이 cutoff 이전일 때만 삭제하고 삭제 여부를 반환
+    // 같은 내용을 다시 저장하는 store()와 원자적으로 처리되어야 한다 (저장 시각 확인과 삭제 사이에 다시 저장되면 지우지 않음)
+    boolean deleteIfUnmodifiedSince(String hash, Instant cutoff) throws IOException;
+
+    // 저장된 해시 -> 마지막 저장 시각 (같은 내용을 다시 저장하면 갱신됨)
+    Map<String, Instant> list() throws IOException;
+
+    class StoredContent {
+
+        private final String hash;
+        private final long size;
+
+        public StoredContent(String hash, long size) {
+            this.hash = hash;
+            this.size = size;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.itseminar.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 참조가 끊긴 첨부파일 내용 정리
+// 같은 내용을 여러 첨부파일이 함께 쓰므로 첨부파일 삭제 시 바로 지우지 않고, 주기적으로 어느 행도 참조하지 않는 내용을 지운다.
+// 업로드 중(저장 후 커밋 전)인 내용을 지우지 않도록 마지막 저장 후 유예 시간이 지난 것만 대상으로 한다.
+// 목록을 읽은 뒤 같은 내용이 다시 저장될 수 있으므로, 지우기 직전에 참조 여부를 DB에서 다시 보고
+// 저장 시각 확인과 삭제는 저장소가 store()와 같은 잠금 안에서 처리한다.
+@Service
+public class AttachmentStorageSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(AttachmentStorageSweeper.class);
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${seminar.attachments.storage.orphan-grace:PT1H}")
+    private Duration orphanGrace;
+
+    @Scheduled(fixedDelayString = "${seminar.attachments.storage.sweep-interval:PT1H}",
+               initialDelayString = "${seminar.attachments.storage.sweep-interval:PT1H}")
+    public void sweep() {
+        try {
+            // 저장소 목록을 먼저 읽어야 그 뒤에 저장되고 커밋된 내용이 참조 목록에서 빠지지 않음
+            Map<String, Instant> stored = attachmentStorage.list();
+            Set<String> referenced = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT content_hash FROM file_attachments WHERE content_hash IS NOT NULL", String.class));
+
+            Instant cutoff = Instant.now().minus(orphanGrace);
+            int deleted = 0;
+            for (Map.Entry<String, Instant> entry : stored.entrySet()) {
+                if (referenced.contains(entry.getKey()) || !entry.getValue().isBefore(cutoff)) {
+                    continue;
+                }
+                if (!isReferenced(entry.getKey()) && attachmentStorage.deleteIfUnmodifiedSince(entry.getKey(), cutoff)) {
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                log.info("참조되지 않는 첨부파일 {}개 삭제", deleted);
+            }
+        } catch (IOException e) {
+            log.warn("첨부파일 저장소 정리 실패", e);
+        }
+    }
+
+    private boolean isReferenced(String hash) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM file_attachments WHERE content_hash = ?)", Boolean.class, hash));
+    }
+}
@@ -0,0 +1,84 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.service.AttachmentStorage.StoredContent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 파일을 첨부파일 저장소로 스트리밍 저장
+// 멀티파트 파일은 서블릿 컨테이너의 임시 파일에서 고정 크기 버퍼 단위로 읽어 옮기므로 파일 크기와 관계없이 힙 사용량이 일정하다.
+// 한 요청의 여러 파일은 전용 스레드 풀에서 동시에 저장한다 (동시 저장 수는 workers로 제한).
+@Service
+public class AttachmentUploadService {
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Value("${seminar.attachments.upload.workers:4}")
+    private int workerCount;
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(workerCount, namedThreads("attachment-upload-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // 파일 순서대로 저장 결과 반환, 하나라도 실패하면 예외 (이미 저장된 내용은 참조가 없으므로 정리 작업이 지움)
+    public List<StoredContent> storeAll(MultipartFile[] files) throws IOException {
+        List<CompletableFuture<StoredContent>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> store(file), workers));
+        }
+
+        List<StoredContent> stored = new ArrayList<>();
+        try {
+            for (CompletableFuture<StoredContent> future : futures) {
+                stored.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+        return stored;
+    }
+
+    private StoredContent store(MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return attachmentStorage.store(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
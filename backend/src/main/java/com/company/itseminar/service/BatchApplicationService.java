@@ -0,0 +1,177 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.repository.SeminarApplicationRepository;
+import com.company.itseminar.repository.SeminarRepository;
+import com.company.itseminar.service.SeminarRegistrationService.ApplyResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 여러 세미나 일괄 신청 (트랙 단위 신청)
+// 세미나 IN 조회 1회 + 기신청 조회 1회로 검증하고, 좌석 확보는 조건부 UPDATE 1회, 신청 행은 JDBC 배치 INSERT 1회로 처리한다.
+// 좌석 확보 조건은 개별 신청(SeminarRegistrationService)과 같다 (마감/종료 전, 정원 여유, 대기자 없음).
+@Service
+public class BatchApplicationService {
+
+    private static final String CLAIM_SEATS_SQL =
+            "UPDATE seminars s SET application_count = application_count + 1 " +
+            "WHERE s.id = ANY(?) AND s.is_closed = false AND s.seminar_date > ? " +
+            "AND (s.capacity IS NULL OR s.application_count < s.capacity) " +
+            "AND NOT EXISTS (SELECT 1 FROM seminar_waitlist w WHERE w.seminar_id = s.id) " +
+            "RETURNING s.id";
+
+    // 동시에 같은 세미나를 신청한 경우 예외 대신 0건으로 돌아오게 함
+    private static final String INSERT_APPLICATION_SQL =
+            "INSERT INTO seminar_applications (id, user_id, seminar_id, applied_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, seminar_id) DO NOTHING";
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    @Autowired
+    private SeminarApplicationRepository applicationRepository;
+
+    @Autowired
+    private SeminarRegistrationService seminarRegistrationService;
+
+    @Autowired
+    private AdmissionQueue admissionQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 요청 순서대로 세미나별 결과 반환 (중복 ID는 한 번만 처리)
+    // allOrNothing이면 하나라도 신청할 수 없을 때 트랜잭션을 롤백하고 나머지는 NOT_APPLIED로 표시
+    public Map<UUID, ApplyResult> applyAll(User user, List<UUID> seminarIds, boolean allOrNothing) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(seminarIds));
+        return transactionTemplate.execute(status -> {
+            Map<UUID, ApplyResult> results = new LinkedHashMap<>();
+            Map<UUID, Seminar> seminars = seminarRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Seminar::getId, Function.identity()));
+            Set<UUID> applied = applicationRepository.findSeminarIdsByUserAndSeminarIdIn(user, ids);
+
+            List<UUID> candidates = new ArrayList<>();
+            for (UUID id : ids) {
+                ApplyResult rejected = precheck(seminars.get(id), applied.contains(id));
+                results.put(id, rejected);
+                if (rejected == null) {
+                    candidates.add(id);
+                }
+            }
+            if (candidates.isEmpty() || (allOrNothing && candidates.size() < ids.size())) {
+                return notApplied(results);
+            }
+
+            Set<UUID> claimed = claimSeats(candidates);
+            for (UUID id : candidates) {
+                if (!claimed.contains(id)) {
+                    results.put(id, ApplyResult.FULL);
+                }
+            }
+            if (allOrNothing && claimed.size() < candidates.size()) {
+                status.setRollbackOnly();
+                return notApplied(results);
+            }
+
+            List<UUID> toInsert = candidates.stream().filter(claimed::contains).collect(Collectors.toList());
+            if (toInsert.isEmpty()) {
+                return results;
+            }
+            Timestamp appliedAt = Timestamp.valueOf(LocalDateTime.now());
+            int[][] counts = jdbcTemplate.batchUpdate(INSERT_APPLICATION_SQL, toInsert, toInsert.size(),
+                    (ps, seminarId) -> {
+                        ps.setObject(1, UUID.randomUUID());
+                        ps.setObject(2, user.getId());
+                        ps.setObject(3, seminarId);
+                        ps.setTimestamp(4, appliedAt);
+                    });
+
+            List<UUID> inserted = new ArrayList<>();
+            for (int i = 0; i < toInsert.size(); i++) {
+                UUID id = toInsert.get(i);
+                if (counts[0][i] != 0) {
+                    inserted.add(id);
+                    continue;
+                }
+                results.put(id, ApplyResult.ALREADY_APPLIED);
+                if (allOrNothing) {
+                    status.setRollbackOnly();
+                    return notApplied(results);
+                }
+                // 확보한 좌석 반납
+                seminarRepository.decrementApplicationCount(id);
+            }
+            for (UUID id : inserted) {
+                results.put(id, ApplyResult.APPLIED);
+                Seminar seminar = seminars.get(id);
+                eventPublisher.publishEvent(new ApplicationChangedEvent(id, user.getId(), ApplicationChangedEvent.ChangeType.APPLIED,
+                        seminar.getCategory() != null ? seminar.getCategory().getId() : null, user.getDepartment()));
+            }
+            return results;
+        });
+    }
+
+    private ApplyResult precheck(Seminar seminar, boolean alreadyApplied) {
+        if (seminar == null) {
+            return ApplyResult.NOT_FOUND;
+        }
+        if (alreadyApplied) {
+            return ApplyResult.ALREADY_APPLIED;
+        }
+        if (seminar.getIsClosed() || seminar.isExpired()) {
+            return ApplyResult.CLOSED;
+        }
+        // 대기열 모드 세미나는 일괄 신청으로 대기열을 건너뛸 수 없음
+        if (admissionQueue.isQueued(seminar.getId())) {
+            return ApplyResult.QUEUE_REQUIRED;
+        }
+        if (seminarRegistrationService.isSoldOut(seminar.getId())) {
+            return ApplyResult.FULL;
+        }
+        return null;
+    }
+
+    // 좌석을 확보한 세미나 ID
+    private Set<UUID> claimSeats(List<UUID> seminarIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            Array ids = connection.createArrayOf("uuid", seminarIds.toArray());
+            PreparedStatement ps = connection.prepareStatement(CLAIM_SEATS_SQL);
+            ps.setArray(1, ids);
+            ps.setTimestamp(2, now);
+            return ps;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class)));
+    }
+
+    // 신청하지 않은 세미나 표시 (전부 아니면 전무 모드 실패)
+    private Map<UUID, ApplyResult> notApplied(Map<UUID, ApplyResult> results) {
+        results.replaceAll((id, result) -> result == null ? ApplyResult.NOT_APPLIED : result);
+        return results;
+    }
+}
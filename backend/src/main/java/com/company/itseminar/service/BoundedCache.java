@@ -0,0 +1,250 @@
+package com.company.itseminar.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 크기 제한(LRU)과 TTL 만료를 갖는 메모리 캐시 (적중/미스/축출 통계 포함)
+// 값 로딩은 락 밖에서 수행하며, 로딩 중에 그 키가 무효화되면 로딩 결과를 저장하지 않는다
+// (다른 키의 무효화는 로딩 결과 저장을 막지 않음)
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 무효화 세대: 무효화마다 1씩 증가하며, 로딩 시작 세대 이후 그 키에 해당하는 무효화가 있었다면 오래된 값을 넣지 않는다
+    private long generation;
+    // 마지막 전체 무효화 세대
+    private long clearedGeneration;
+    // 진행 중인 로딩이 있는 동안만 기록하는 키별/조건별 무효화 세대 (가장 오래된 로딩보다 이전 기록은 정리)
+    private final Map<K, Long> invalidatedKeys = new HashMap<>();
+    private final List<PredicateInvalidation<K>> invalidatedPredicates = new ArrayList<>();
+    // 로딩 시작 세대 -> 진행 중인 로딩 수
+    private final TreeMap<Long, Integer> activeLoads = new TreeMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    public BoundedCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    public V getOrLoad(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = startLoad();
+        }
+
+        V loaded = null;
+        try {
+            loaded = loader.apply(key);
+        } finally {
+            synchronized (this) {
+                if (loaded != null && !invalidatedSince(key, loadGeneration)) {
+                    entries.put(key, new Entry<>(loaded, System.nanoTime() + ttlNanos));
+                }
+                finishLoad(loadGeneration);
+            }
+        }
+        return loaded;
+    }
+
+    // 여러 키를 한 번에 조회하고, 없는 키만 모아서 한 번에 로딩한다
+    public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            for (K key : keys) {
+                V cached = get(key);
+                if (cached != null) {
+                    result.put(key, cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+            if (missing.isEmpty()) {
+                return result;
+            }
+            loadGeneration = startLoad();
+        }
+
+        Map<K, V> loaded = Map.of();
+        try {
+            loaded = loader.apply(missing);
+        } finally {
+            synchronized (this) {
+                long expiresAt = System.nanoTime() + ttlNanos;
+                for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                    result.put(entry.getKey(), entry.getValue());
+                    if (!invalidatedSince(entry.getKey(), loadGeneration)) {
+                        entries.put(entry.getKey(), new Entry<>(entry.getValue(), expiresAt));
+                    }
+                }
+                finishLoad(loadGeneration);
+            }
+        }
+        return result;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (!activeLoads.isEmpty()) {
+            invalidatedKeys.put(key, generation);
+        }
+        if (entries.remove(key) != null) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        generation++;
+        if (!activeLoads.isEmpty()) {
+            invalidatedPredicates.add(new PredicateInvalidation<>(generation, predicate));
+        }
+        Iterator<K> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (predicate.test(keys.next())) {
+                keys.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        clearedGeneration = generation;
+        invalidatedKeys.clear();
+        invalidatedPredicates.clear();
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        long requests = hits + misses;
+        stats.put("name", name);
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", Duration.ofNanos(ttlNanos).toSeconds());
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", requests == 0 ? 0.0 : (double) hits / requests);
+        stats.put("evictions", evictions);
+        stats.put("expirations", expirations);
+        stats.put("invalidations", invalidations);
+        return stats;
+    }
+
+    // 락 안에서 호출
+    private long startLoad() {
+        activeLoads.merge(generation, 1, Integer::sum);
+        return generation;
+    }
+
+    // 락 안에서 호출: 남은 로딩 중 가장 오래된 것보다 이전의 무효화 기록은 더 이상 필요 없음
+    private void finishLoad(long loadGeneration) {
+        activeLoads.computeIfPresent(loadGeneration, (started, count) -> count > 1 ? count - 1 : null);
+        if (activeLoads.isEmpty()) {
+            invalidatedKeys.clear();
+            invalidatedPredicates.clear();
+            return;
+        }
+        long oldest = activeLoads.firstKey();
+        invalidatedKeys.values().removeIf(invalidatedAt -> invalidatedAt <= oldest);
+        invalidatedPredicates.removeIf(invalidation -> invalidation.generation <= oldest);
+    }
+
+    // 락 안에서 호출
+    private boolean invalidatedSince(K key, long loadGeneration) {
+        if (clearedGeneration > loadGeneration) {
+            return true;
+        }
+        Long invalidatedAt = invalidatedKeys.get(key);
+        if (invalidatedAt != null && invalidatedAt > loadGeneration) {
+            return true;
+        }
+        for (PredicateInvalidation<K> invalidation : invalidatedPredicates) {
+            if (invalidation.generation > loadGeneration && invalidation.predicate.test(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class PredicateInvalidation<K> {
+
+        private final long generation;
+        private final Predicate<K> predicate;
+
+        PredicateInvalidation(long generation, Predicate<K> predicate) {
+            this.generation = generation;
+            this.predicate = predicate;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.CategoryChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// 관리자 대시보드 통계 집계 (메모리 내 읽기 모델)
+// 세미나/신청/카테고리 변경 이벤트로 증감하고, 주기적으로(기동 직후 1회 포함) DB에서 다시 집계해 차이를 바로잡는다.
+// 시간이 지나면 바뀌는 값(진행 예정 세미나, 최근 7일 신청)은 시각별로 보관해 조회 시 지난 항목만 덜어낸다.
+// 사용자는 기동 시 데이터 적재로만 추가되므로 보정 집계로 반영한다.
+@Service
+public class DashboardRollup {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardRollup.class);
+
+    private static final int WEEKLY_DAYS = 7;
+
+    private static final String TOTALS_SQL =
+            "SELECT (SELECT COUNT(*) FROM seminars), (SELECT COUNT(*) FROM users), " +
+            "(SELECT COUNT(*) FROM seminar_applications), (SELECT COUNT(*) FROM categories)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile boolean loaded;
+
+    private long totalSeminars;
+    private long totalUsers;
+    private long totalApplications;
+    private long totalCategories;
+
+    // 오늘 0시 이후 세미나 (오늘/진행 예정 집계용)
+    private LocalDateTime trackedFrom;
+    private final Map<UUID, SeminarSlot> trackedSeminars = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Integer> seminarsByDate = new TreeMap<>();
+
+    // 마감되지 않은 진행 예정 세미나 (시작 시각이 지나면 조회 시 제외)
+    private final NavigableMap<LocalDateTime, Integer> openSeminarsByDate = new TreeMap<>();
+    private long activeSeminars;
+
+    // 최근 7일 신청 수 (분 단위)
+    private final NavigableMap<LocalDateTime, Long> applicationsByMinute = new TreeMap<>();
+    private long weeklyApplications;
+
+    public Map<String, Object> snapshot() {
+        if (!loaded) {
+            reconcile();
+        }
+        synchronized (this) {
+            return currentStats();
+        }
+    }
+
+    private Map<String, Object> currentStats() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
+        if (todayStart.isAfter(trackedFrom)) {
+            dropSeminarsBefore(todayStart);
+        }
+        expire(now);
+
+        long todaysSeminars = seminarsByDate.subMap(todayStart, true, todayStart.plusDays(1), false).values().stream()
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalSeminars", totalSeminars);
+        stats.put("totalUsers", totalUsers);
+        stats.put("totalApplications", totalApplications);
+        stats.put("totalCategories", totalCategories);
+        stats.put("activeSeminars", activeSeminars);
+        stats.put("todaysSeminars", todaysSeminars);
+        stats.put("weeklyApplications", weeklyApplications);
+        return stats;
+    }
+
+    // 집계 쿼리는 잠금 밖에서 실행하고 결과만 잠금 안에서 교체한다 (그동안 신청/취소 이벤트를 막지 않도록)
+    // 집계 도중에 들어온 변경은 어느 쪽에 반영됐는지 알 수 없으므로, 차이가 남으면 다음 보정 때 바로잡힌다
+    @Scheduled(fixedDelayString = "${seminar.dashboard.reconcile-interval:PT10M}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
+        LocalDateTime weekStart = now.minusDays(WEEKLY_DAYS);
+
+        long[] totals = jdbcTemplate.queryForObject(TOTALS_SQL,
+                (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)});
+
+        Map<UUID, SeminarSlot> seminars = new HashMap<>();
+        jdbcTemplate.query("SELECT id, seminar_date, is_closed FROM seminars WHERE seminar_date >= ?",
+                rs -> {
+                    seminars.put(rs.getObject("id", UUID.class),
+                            new SeminarSlot(rs.getTimestamp("seminar_date").toLocalDateTime(), rs.getBoolean("is_closed")));
+                },
+                todayStart);
+
+        List<Map<String, Object>> buckets = jdbcTemplate.queryForList(
+                "SELECT date_trunc('minute', applied_at) AS minute, COUNT(*) AS applications " +
+                "FROM seminar_applications WHERE applied_at > ? GROUP BY 1",
+                weekStart);
+
+        synchronized (this) {
+            replace(totals, todayStart, seminars, buckets);
+        }
+        log.debug("대시보드 통계 보정: 세미나 {}건, 신청 {}건", totals[0], totals[2]);
+    }
+
+    private void replace(long[] totals, LocalDateTime todayStart, Map<UUID, SeminarSlot> seminars,
+                         List<Map<String, Object>> buckets) {
+        totalSeminars = totals[0];
+        totalUsers = totals[1];
+        totalApplications = totals[2];
+        totalCategories = totals[3];
+
+        trackedFrom = todayStart;
+        trackedSeminars.clear();
+        seminarsByDate.clear();
+        openSeminarsByDate.clear();
+        activeSeminars = 0;
+        seminars.forEach(this::track);
+
+        applicationsByMinute.clear();
+        weeklyApplications = 0;
+        for (Map<String, Object> bucket : buckets) {
+            LocalDateTime minute = ((Timestamp) bucket.get("minute")).toLocalDateTime();
+            long count = ((Number) bucket.get("applications")).longValue();
+            applicationsByMinute.put(minute, count);
+            weeklyApplications += count;
+        }
+
+        expire(LocalDateTime.now());
+        loaded = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        UUID seminarId = event.getSeminarId();
+        switch (event.getChangeType()) {
+            // 삭제된 세미나의 신청도 함께 삭제되므로 전체를 다시 집계
+            case DELETED -> reconcile();
+            case CREATED -> reload(seminarId, 1);
+            default -> reload(seminarId, 0);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onApplicationChanged(ApplicationChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        switch (event.getChangeType()) {
+            case APPLIED -> {
+                totalApplications++;
+                applicationsByMinute.merge(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES), 1L, Long::sum);
+                weeklyApplications++;
+            }
+            case CANCELLED -> {
+                totalApplications--;
+                if (event.getAppliedAt() != null) {
+                    LocalDateTime minute = event.getAppliedAt().truncatedTo(ChronoUnit.MINUTES);
+                    // 이미 7일 범위 밖으로 빠진 신청이면 버킷이 없음
+                    Long count = applicationsByMinute.get(minute);
+                    if (count != null) {
+                        if (count > 1) {
+                            applicationsByMinute.put(minute, count - 1);
+                        } else {
+                            applicationsByMinute.remove(minute);
+                        }
+                        weeklyApplications--;
+                    }
+                }
+            }
+            // 세미나별 카운터 보정은 신청 행 자체를 바꾸지 않음
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        if (loaded) {
+            totalCategories = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Long.class);
+        }
+    }
+
+    // 세미나 한 건을 다시 읽어 오늘/진행 예정 집계에서의 위치를 갱신
+    private void reload(UUID seminarId, int seminarDelta) {
+        List<SeminarSlot> rows = jdbcTemplate.query(
+                "SELECT seminar_date, is_closed FROM seminars WHERE id = ?",
+                (rs, rowNum) -> new SeminarSlot(rs.getTimestamp("seminar_date").toLocalDateTime(), rs.getBoolean("is_closed")),
+                seminarId);
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            totalSeminars += seminarDelta;
+            untrack(seminarId);
+            if (!rows.isEmpty() && !rows.get(0).date.isBefore(trackedFrom)) {
+                track(seminarId, rows.get(0));
+            }
+        }
+    }
+
+    private void track(UUID seminarId, SeminarSlot slot) {
+        trackedSeminars.put(seminarId, slot);
+        seminarsByDate.merge(slot.date, 1, Integer::sum);
+        if (!slot.closed && slot.date.isAfter(LocalDateTime.now())) {
+            openSeminarsByDate.merge(slot.date, 1, Integer::sum);
+            activeSeminars++;
+        }
+    }
+
+    private void untrack(UUID seminarId) {
+        SeminarSlot slot = trackedSeminars.remove(seminarId);
+        if (slot == null) {
+            return;
+        }
+        decrement(seminarsByDate, slot.date);
+        if (!slot.closed && decrement(openSeminarsByDate, slot.date)) {
+            activeSeminars--;
+        }
+    }
+
+    private static boolean decrement(NavigableMap<LocalDateTime, Integer> counts, LocalDateTime date) {
+        Integer count = counts.get(date);
+        if (count == null) {
+            return false;
+        }
+        if (count > 1) {
+            counts.put(date, count - 1);
+        } else {
+            counts.remove(date);
+        }
+        return true;
+    }
+
+    // 시작 시각이 지난 세미나와 7일이 지난 신청을 제외
+    private void expire(LocalDateTime now) {
+        NavigableMap<LocalDateTime, Integer> started = openSeminarsByDate.headMap(now, true);
+        for (int count : started.values()) {
+            activeSeminars -= count;
+        }
+        started.clear();
+
+        NavigableMap<LocalDateTime, Long> expired = applicationsByMinute.headMap(now.minusDays(WEEKLY_DAYS), true);
+        for (long count : expired.values()) {
+            weeklyApplications -= count;
+        }
+        expired.clear();
+    }
+
+    // 날짜가 바뀌면 어제 세미나를 추적 대상에서 제외 (하루 한 번)
+    private void dropSeminarsBefore(LocalDateTime todayStart) {
+        trackedSeminars.values().removeIf(slot -> slot.date.isBefore(todayStart));
+        seminarsByDate.headMap(todayStart, false).clear();
+        trackedFrom = todayStart;
+    }
+
+    private static class SeminarSlot {
+
+        private final LocalDateTime date;
+        private final boolean closed;
+
+        SeminarSlot(LocalDateTime date, boolean closed) {
+            this.date = date;
+            this.closed = closed;
+        }
+    }
+}
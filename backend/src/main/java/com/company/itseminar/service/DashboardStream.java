@@ -0,0 +1,328 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 관리자 대시보드 실시간 갱신 (Server-Sent Events)
+// 신청/취소/세미나 변경 이벤트(커밋 이후)를 모아 두었다가 정해진 간격마다 한 번에 보낸다.
+// 보낼 내용은 연결 수와 관계없이 한 번만 만들고 직렬화하므로, 대시보드를 여러 개 열어도 DB 조회는 한 번이다.
+// 연결된 관리자가 없으면 모아 둔 변경은 버린다 (연결 시 화면은 REST API로 처음 상태를 받음).
+@Service
+public class DashboardStream {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStream.class);
+
+    // 한 번에 보내는 최근 신청 / 신청자 수 변경 세미나 최대 개수
+    private static final int MAX_RECENT_APPLICATIONS = 10;
+    private static final int MAX_COUNT_UPDATES = 200;
+
+    private static final String RECENT_APPLICATIONS_SQL =
+            "SELECT a.id, u.full_name, u.department, s.title, s.id AS seminar_id, a.applied_at " +
+            "FROM seminar_applications a JOIN users u ON u.id = a.user_id JOIN seminars s ON s.id = a.seminar_id " +
+            "WHERE (a.seminar_id, a.user_id) IN (SELECT * FROM unnest(?::uuid[], ?::uuid[])) " +
+            "ORDER BY a.applied_at DESC";
+
+    private static final String SEMINARS_SQL =
+            "SELECT s.id, s.title, s.seminar_date, s.location, s.created_at, s.application_count, s.is_closed, " +
+            "       u.full_name AS created_by, c.name AS category_name, c.color_code AS category_color " +
+            "FROM seminars s JOIN users u ON u.id = s.created_by LEFT JOIN categories c ON c.id = s.category_id " +
+            "WHERE s.id = ANY(?)";
+
+    private static final String CATEGORY_STATS_SQL =
+            "SELECT c.id, c.name, c.color_code, c.icon_name, COUNT(s.id) AS seminar_count " +
+            "FROM categories c LEFT JOIN seminars s ON s.category_id = c.id " +
+            "WHERE c.is_active = true " +
+            "GROUP BY c.id, c.name, c.color_code, c.icon_name, c.display_order " +
+            "ORDER BY c.display_order, c.name";
+
+    @Autowired
+    private DashboardRollup dashboardRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 초당 최대 전송 횟수 (그 사이의 변경은 합쳐서 보냄)
+    @Value("${seminar.dashboard.stream.max-updates-per-second:2}")
+    private double maxUpdatesPerSecond;
+
+    // 연결 유지 시간 (만료되면 브라우저 EventSource가 다시 연결)
+    @Value("${seminar.dashboard.stream.timeout:30m}")
+    private Duration timeout;
+
+    // 변경이 없을 때 연결 확인용 주석을 보내는 간격
+    @Value("${seminar.dashboard.stream.heartbeat:25s}")
+    private Duration heartbeat;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // 아직 보내지 않은 변경 (this로 동기화)
+    private int applied;
+    private int cancelled;
+    private final Deque<UUID[]> recentApplied = new ArrayDeque<>();
+    private final Set<UUID> countChanged = new LinkedHashSet<>();
+    private final Map<UUID, SeminarChangedEvent.ChangeType> seminarChanges = new LinkedHashMap<>();
+
+    private ScheduledExecutorService publisher;
+    // 전송 스레드에서만 사용
+    private long lastSentNanos = System.nanoTime();
+
+    @PostConstruct
+    public void init() {
+        long intervalMillis = Math.max(1, Math.round(1000 / maxUpdatesPerSecond));
+        publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        publisher.scheduleAtFixedRate(this::publishSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return emitters.size();
+    }
+
+    // 활성 카테고리별 세미나 수 (한 번의 집계 쿼리)
+    public List<Map<String, Object>> categoryStats() {
+        return jdbcTemplate.query(CATEGORY_STATS_SQL, (rs, rowNum) -> {
+            Map<String, Object> stat = new HashMap<>();
+            stat.put("id", rs.getObject("id", UUID.class));
+            stat.put("name", rs.getString("name"));
+            stat.put("color", rs.getString("color_code"));
+            stat.put("icon", rs.getString("icon_name"));
+            stat.put("seminarCount", rs.getLong("seminar_count"));
+            return stat;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onApplicationChanged(ApplicationChangedEvent event) {
+        switch (event.getChangeType()) {
+            case APPLIED -> {
+                applied++;
+                recentApplied.addFirst(new UUID[] {event.getSeminarId(), event.getUserId()});
+                if (recentApplied.size() > MAX_RECENT_APPLICATIONS) {
+                    recentApplied.removeLast();
+                }
+            }
+            case CANCELLED -> cancelled++;
+            default -> {
+            }
+        }
+        if (countChanged.size() < MAX_COUNT_UPDATES) {
+            countChanged.add(event.getSeminarId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSeminarChanged(SeminarChangedEvent event) {
+        // 생성 후 곧바로 수정된 경우 등은 마지막 변경만 보냄 (삭제는 유지)
+        seminarChanges.merge(event.getSeminarId(), event.getChangeType(),
+                (previous, current) -> previous == SeminarChangedEvent.ChangeType.DELETED ? previous : current);
+    }
+
+    private void publishSafely() {
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            // 예외로 스케줄이 중단되지 않도록 기록만 한다
+            log.error("대시보드 실시간 전송 실패", e);
+        }
+    }
+
+    private void publish() {
+        Changes changes = drain();
+        if (emitters.isEmpty()) {
+            return;
+        }
+        if (changes == null) {
+            if (System.nanoTime() - lastSentNanos >= heartbeat.toNanos()) {
+                broadcast(SseEmitter.event().comment("keep-alive"));
+            }
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(buildPayload(changes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        broadcast(SseEmitter.event().name("dashboard").data(json, MediaType.APPLICATION_JSON));
+    }
+
+    private synchronized Changes drain() {
+        if (applied == 0 && cancelled == 0 && countChanged.isEmpty() && seminarChanges.isEmpty()) {
+            return null;
+        }
+        Changes changes = new Changes(applied, cancelled, new ArrayList<>(recentApplied),
+                new ArrayList<>(countChanged), new LinkedHashMap<>(seminarChanges));
+        applied = 0;
+        cancelled = 0;
+        recentApplied.clear();
+        countChanged.clear();
+        seminarChanges.clear();
+        return changes;
+    }
+
+    private Map<String, Object> buildPayload(Changes changes) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("stats", dashboardRollup.snapshot());
+        payload.put("applied", changes.applied);
+        payload.put("cancelled", changes.cancelled);
+        payload.put("recentApplications", recentApplications(changes.recentApplied));
+        payload.put("applicationCounts", applicationCounts(changes.countChanged));
+
+        List<UUID> changedSeminars = new ArrayList<>();
+        List<UUID> deletedSeminars = new ArrayList<>();
+        changes.seminarChanges.forEach((seminarId, type) ->
+                (type == SeminarChangedEvent.ChangeType.DELETED ? deletedSeminars : changedSeminars).add(seminarId));
+        payload.put("seminars", seminars(changedSeminars));
+        payload.put("deletedSeminarIds", deletedSeminars);
+        if (!changes.seminarChanges.isEmpty()) {
+            payload.put("categoryStats", categoryStats());
+        }
+        return payload;
+    }
+
+    // /recent-activities의 recentApplications와 같은 형식
+    private List<Map<String, Object>> recentApplications(List<UUID[]> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        UUID[] seminarIds = keys.stream().map(key -> key[0]).toArray(UUID[]::new);
+        UUID[] userIds = keys.stream().map(key -> key[1]).toArray(UUID[]::new);
+        return queryByIds(RECENT_APPLICATIONS_SQL, (rs, rowNum) -> {
+            Map<String, Object> activity = new HashMap<>();
+            activity.put("id", rs.getObject("id", UUID.class));
+            activity.put("userName", rs.getString("full_name"));
+            activity.put("userDepartment", rs.getString("department"));
+            activity.put("seminarTitle", rs.getString("title"));
+            activity.put("seminarId", rs.getObject("seminar_id", UUID.class));
+            activity.put("appliedAt", rs.getTimestamp("applied_at").toLocalDateTime());
+            return activity;
+        }, seminarIds, userIds);
+    }
+
+    private Map<UUID, Integer> applicationCounts(List<UUID> seminarIds) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        if (!seminarIds.isEmpty()) {
+            queryByIds("SELECT id, application_count FROM seminars WHERE id = ANY(?)",
+                    (rs, rowNum) -> counts.put(rs.getObject("id", UUID.class), rs.getInt("application_count")),
+                    seminarIds.toArray());
+        }
+        return counts;
+    }
+
+    // /recent-activities의 recentSeminars와 같은 형식 (+ 마감 여부)
+    private List<Map<String, Object>> seminars(List<UUID> seminarIds) {
+        if (seminarIds.isEmpty()) {
+            return List.of();
+        }
+        return queryByIds(SEMINARS_SQL, (rs, rowNum) -> {
+            Map<String, Object> activity = new HashMap<>();
+            activity.put("id", rs.getObject("id", UUID.class));
+            activity.put("title", rs.getString("title"));
+            activity.put("date", rs.getTimestamp("seminar_date").toLocalDateTime());
+            activity.put("location", rs.getString("location"));
+            activity.put("createdBy", rs.getString("created_by"));
+            activity.put("createdAt", rs.getTimestamp("created_at").toLocalDateTime());
+            activity.put("applicationCount", rs.getInt("application_count"));
+            activity.put("isClosed", rs.getBoolean("is_closed"));
+            if (rs.getString("category_name") != null) {
+                activity.put("categoryName", rs.getString("category_name"));
+                activity.put("categoryColor", rs.getString("category_color"));
+            }
+            return activity;
+        }, seminarIds.toArray());
+    }
+
+    // uuid[] 파라미터를 같은 커넥션에서 만들어 바인딩
+    private <T> List<T> queryByIds(String sql, RowMapper<T> rowMapper, Object[]... ids) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            for (int i = 0; i < ids.length; i++) {
+                ps.setArray(i + 1, connection.createArrayOf("uuid", ids[i]));
+            }
+            return ps;
+        }, rowMapper);
+    }
+
+    // 전송에 실패한 연결은 닫힌 것으로 보고 제거 (연결 정리는 컨테이너 오류 콜백에서 이뤄짐)
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        lastSentNanos = System.nanoTime();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private static class Changes {
+
+        private final int applied;
+        private final int cancelled;
+        private final List<UUID[]> recentApplied;
+        private final List<UUID> countChanged;
+        private final Map<UUID, SeminarChangedEvent.ChangeType> seminarChanges;
+
+        Changes(int applied, int cancelled, List<UUID[]> recentApplied, List<UUID> countChanged,
+                Map<UUID, SeminarChangedEvent.ChangeType> seminarChanges) {
+            this.applied = applied;
+            this.cancelled = cancelled;
+            this.recentApplied = recentApplied;
+            this.countChanged = countChanged;
+            this.seminarChanges = seminarChanges;
+        }
+    }
+}
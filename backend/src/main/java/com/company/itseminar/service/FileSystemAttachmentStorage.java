@@ -0,0 +1,175 @@
+package com.company.itseminar.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 로컬 디스크 첨부파일 저장소 (seminar.attachments.storage.type=filesystem, 기본값)
+// {path}/{해시 앞 2자}/{해시} 에 저장하며, 임시 파일에 다 쓴 뒤 rename으로 옮겨 반쯤 쓴 파일이 보이지 않게 한다.
+@Service
+@ConditionalOnProperty(name = "seminar.attachments.storage.type", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemAttachmentStorage implements AttachmentStorage {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMP_DIR = "tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    @Value("${seminar.attachments.storage.path:./data/attachments}")
+    private String path;
+
+    private Path root;
+    private Path tempDir;
+
+    // 해시별 잠금 (저장 시 존재 확인 + 시각 갱신/이동과 정리 작업의 시각 확인 + 삭제가 서로 끼어들지 않게 함)
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(path).toAbsolutePath().normalize();
+        tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+    }
+
+    // 고정 크기 버퍼로 읽으면서 해시와 크기를 함께 계산해 임시 파일에 쓰고, 해시가 정해지면 제자리로 옮긴다
+    @Override
+    public StoredContent store(InputStream content) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+        Path temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    wrapped.clear().limit(read);
+                    while (wrapped.hasRemaining()) {
+                        channel.write(wrapped);
+                    }
+                    size += read;
+                }
+                channel.force(true);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(hash);
+            synchronized (lockOf(hash)) {
+                if (Files.exists(target)) {
+                    // 이미 있는 내용: 정리 작업이 방금 다시 참조된 내용을 지우지 않도록 저장 시각만 갱신
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                } else {
+                    Files.createDirectories(target.getParent());
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            return new StoredContent(hash, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream open(String hash) throws IOException {
+        return Files.newInputStream(pathOf(hash));
+    }
+
+    @Override
+    public Path localFile(String hash) {
+        return pathOf(hash);
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return Files.exists(pathOf(hash));
+    }
+
+    @Override
+    public boolean deleteIfUnmodifiedSince(String hash, Instant cutoff) throws IOException {
+        Path file = pathOf(hash);
+        synchronized (lockOf(hash)) {
+            try {
+                if (!Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    return false;
+                }
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            return Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public Map<String, Instant> list() throws IOException {
+        Map<String, Instant> stored = new HashMap<>();
+        try (DirectoryStream<Path> prefixes = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path prefix : prefixes) {
+                if (prefix.getFileName().toString().equals(TEMP_DIR)) {
+                    continue;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(prefix)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        if (!HASH.matcher(name).matches()) {
+                            continue;
+                        }
+                        try {
+                            stored.put(name, Files.getLastModifiedTime(file).toInstant());
+                        } catch (NoSuchFileException e) {
+                            // 목록을 읽는 사이 삭제된 파일
+                        }
+                    }
+                }
+            }
+        }
+        return stored;
+    }
+
+    // 해시 형식이 아니면 경로로 쓰지 않음 (저장소 밖 경로 접근 방지)
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 첨부파일 해시입니다: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Object lockOf(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.company.itseminar.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Idempotency-Key 처리
+// 같은 키로 다시 들어온 요청에는 처음 처리한 응답을 그대로 돌려주고 (DB 조회 없음),
+// 처리 중에 같은 키로 동시에 들어온 요청은 새로 실행하지 않고 진행 중인 처리 결과를 기다린다.
+// 완료된 응답은 크기 제한과 TTL이 있는 메모리 캐시에 보관하며, 5xx 응답은 재시도할 수 있도록 보관하지 않는다.
+@Service
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Value("${seminar.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${seminar.idempotency.ttl:1h}")
+    private Duration ttl;
+
+    private BoundedCache<String, StoredResponse> completed;
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        completed = new BoundedCache<>("idempotency", maxEntries, ttl);
+    }
+
+    // scope: 키를 구분할 범위 (사용자명), fingerprint: 같은 키로 다른 요청을 보냈는지 확인할 요청 값
+    public ResponseEntity<Map<String, Object>> execute(String scope, String key, String fingerprint,
+                                                       Supplier<ResponseEntity<Map<String, Object>>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "Idempotency-Key가 올바르지 않습니다"));
+        }
+        String storeKey = scope + ":" + key;
+
+        StoredResponse stored = completed.get(storeKey);
+        if (stored != null) {
+            return stored.replay(fingerprint);
+        }
+
+        CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(storeKey, future);
+        if (running != null) {
+            return await(running).replay(fingerprint);
+        }
+
+        try {
+            // 조회와 등록 사이에 앞선 처리가 끝났을 수 있음
+            stored = completed.get(storeKey);
+            if (stored != null) {
+                future.complete(stored);
+                return stored.replay(fingerprint);
+            }
+
+            ResponseEntity<Map<String, Object>> response = action.get();
+            stored = new StoredResponse(fingerprint, response);
+            if (!response.getStatusCode().is5xxServerError()) {
+                completed.put(storeKey, stored);
+            }
+            future.complete(stored);
+            return response;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(storeKey, future);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 원래 요청과 같은 예외로 실패시킨다
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>(completed.stats());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    private static class StoredResponse {
+
+        private final String fingerprint;
+        private final ResponseEntity<Map<String, Object>> response;
+
+        StoredResponse(String fingerprint, ResponseEntity<Map<String, Object>> response) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+        }
+
+        ResponseEntity<Map<String, Object>> replay(String requestFingerprint) {
+            if (!Objects.equals(fingerprint, requestFingerprint)) {
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                        .body(Map.of("success", false, "message", "다른 요청에 사용된 Idempotency-Key입니다"));
+            }
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(response.getBody());
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.dto.SeminarCursor;
+import com.company.itseminar.dto.SeminarSearchCriteria;
+import com.company.itseminar.dto.SeminarSearchHit;
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.company.itseminar.repository.SeminarRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 메모리 내 바이그램 역색인 검색 엔진 (seminar.search.engine=memory)
+// PostgreSQL 전문 검색 설정을 바꿀 수 없는 환경용으로, 제목/설명/장소를 색인한다.
+// 검색어 매칭, 필터, 정렬, 페이지 자르기까지 메모리에서 처리하고 DB는 최종 행 조회에만 사용한다.
+@Service
+@ConditionalOnProperty(name = "seminar.search.engine", havingValue = "memory")
+public class InMemorySeminarSearchEngine implements SeminarSearchEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySeminarSearchEngine.class);
+
+    // 필드 가중치 (PostgreSQL ts_rank 기본 가중치 A/B/C와 동일)
+    private static final byte TITLE = 1;
+    private static final byte DESCRIPTION = 2;
+    private static final byte LOCATION = 4;
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 검색어 -> 정렬된 문서 번호 배열 (접두어 검색을 위해 정렬 맵 사용)
+    private final TreeMap<String, int[]> postings = new TreeMap<>();
+
+    // 문서 번호 -> 색인 문서 (삭제된 번호는 null)
+    private final List<IndexedSeminar> documents = new ArrayList<>();
+    private final Map<UUID, Integer> documentIds = new HashMap<>();
+
+    // 삭제로 비어 있는 문서 번호 (새 문서에 작은 번호부터 재사용해 documents와 검색용 BitSet이 계속 커지지 않게 함)
+    private final BitSet freeDocIds = new BitSet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long startedAt = System.currentTimeMillis();
+        SeminarCursor cursor = SeminarCursor.FIRST;
+        int count = 0;
+        while (true) {
+            List<Seminar> batch = seminarRepository.findPage(cursor.getDate(), cursor.getId(), Limit.of(BUILD_BATCH_SIZE));
+            batch.forEach(this::index);
+            count += batch.size();
+            if (batch.size() < BUILD_BATCH_SIZE) {
+                break;
+            }
+            Seminar last = batch.get(batch.size() - 1);
+            cursor = new SeminarCursor(last.getDate(), last.getId());
+        }
+        log.info("세미나 검색 색인 생성 완료: {}건, {}개 검색어, {}ms", count, postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        if (event.getChangeType() == SeminarChangedEvent.ChangeType.DELETED) {
+            remove(event.getSeminarId());
+            return;
+        }
+        seminarRepository.findById(event.getSeminarId()).ifPresentOrElse(
+                this::index,
+                () -> remove(event.getSeminarId()));
+    }
+
+    @Override
+    public List<SeminarSearchHit> search(SeminarSearchCriteria criteria, SeminarCursor after, int limit) {
+        Set<String> queryTerms = SeminarSearchTokenizer.queryTerms(criteria.getKeyword());
+        if (queryTerms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<SeminarSearchHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (String term : queryTerms) {
+                BitSet termMatches = lookup(term);
+                if (matches == null) {
+                    matches = termMatches;
+                } else {
+                    matches.and(termMatches);
+                }
+                if (matches.isEmpty()) {
+                    return hits;
+                }
+            }
+
+            for (int docId = matches.nextSetBit(0); docId >= 0; docId = matches.nextSetBit(docId + 1)) {
+                IndexedSeminar doc = documents.get(docId);
+                if (doc == null || !doc.matches(criteria)) {
+                    continue;
+                }
+                SeminarSearchHit hit = new SeminarSearchHit(doc.id, doc.date, doc.rank(queryTerms));
+                if (CURSOR_ORDER.compare(hit.toCursor(), after) > 0) {
+                    hits.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort((a, b) -> CURSOR_ORDER.compare(a.toCursor(), b.toCursor()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // 검색어 하나에 대한 문서 번호 집합 (영문/숫자 단어와 한 글자 한글은 접두어 매칭)
+    private BitSet lookup(String term) {
+        BitSet result = new BitSet(documents.size());
+        if (SeminarSearchTokenizer.isPrefixTerm(term)) {
+            for (int[] docIds : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                for (int docId : docIds) {
+                    result.set(docId);
+                }
+            }
+        } else {
+            int[] docIds = postings.get(term);
+            if (docIds != null) {
+                for (int docId : docIds) {
+                    result.set(docId);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void index(Seminar seminar) {
+        IndexedSeminar doc = new IndexedSeminar(seminar);
+        lock.writeLock().lock();
+        try {
+            // 수정된 세미나는 기존 문서를 지운 뒤 빈 번호를 받아 다시 넣는다
+            removeLocked(doc.id);
+            int docId = freeDocIds.nextSetBit(0);
+            if (docId >= 0) {
+                freeDocIds.clear(docId);
+                documents.set(docId, doc);
+            } else {
+                docId = documents.size();
+                documents.add(doc);
+            }
+            documentIds.put(doc.id, docId);
+            for (String term : doc.terms) {
+                postings.put(term, insertSorted(postings.get(term), docId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int[] insertSorted(int[] docIds, int docId) {
+        if (docIds == null) {
+            return new int[] {docId};
+        }
+        int position = -Arrays.binarySearch(docIds, docId) - 1;
+        int[] updated = new int[docIds.length + 1];
+        System.arraycopy(docIds, 0, updated, 0, position);
+        updated[position] = docId;
+        System.arraycopy(docIds, position, updated, position + 1, docIds.length - position);
+        return updated;
+    }
+
+    private void remove(UUID seminarId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(seminarId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(UUID seminarId) {
+        Integer docId = documentIds.remove(seminarId);
+        if (docId == null) {
+            return;
+        }
+        IndexedSeminar doc = documents.set(docId, null);
+        freeDocIds.set(docId);
+        for (String term : doc.terms) {
+            int[] docIds = postings.get(term);
+            int position = Arrays.binarySearch(docIds, docId);
+            if (position < 0) {
+                continue;
+            }
+            if (docIds.length == 1) {
+                postings.remove(term);
+                continue;
+            }
+            int[] updated = new int[docIds.length - 1];
+            System.arraycopy(docIds, 0, updated, 0, position);
+            System.arraycopy(docIds, position + 1, updated, position, docIds.length - position - 1);
+            postings.put(term, updated);
+        }
+    }
+
+    // rank DESC, date DESC, id DESC (id는 PostgreSQL uuid와 같은 부호 없는 비교)
+    private static final Comparator<SeminarCursor> CURSOR_ORDER = Comparator
+            .comparing((SeminarCursor c) -> c.getRank() != null ? c.getRank() : Float.MAX_VALUE, Comparator.reverseOrder())
+            .thenComparing(SeminarCursor::getDate, Comparator.reverseOrder())
+            .thenComparing(SeminarCursor::getId, (a, b) -> compareUnsigned(b, a));
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    // 색인된 세미나 한 건: 필터에 필요한 값과, 정렬된 검색어 및 검색어가 나타난 필드
+    private static class IndexedSeminar {
+
+        private final UUID id;
+        private final LocalDateTime date;
+        private final UUID categoryId;
+        private final boolean closed;
+        private final String[] terms;
+        private final byte[] fields;
+
+        IndexedSeminar(Seminar seminar) {
+            this.id = seminar.getId();
+            this.date = seminar.getDate();
+            this.categoryId = seminar.getCategory() != null ? seminar.getCategory().getId() : null;
+            this.closed = Boolean.TRUE.equals(seminar.getIsClosed());
+
+            TreeMap<String, Byte> termFields = new TreeMap<>();
+            addTerms(termFields, seminar.getTitle(), TITLE);
+            addTerms(termFields, seminar.getDescription(), DESCRIPTION);
+            addTerms(termFields, seminar.getLocation(), LOCATION);
+            this.terms = termFields.keySet().toArray(new String[0]);
+            this.fields = new byte[terms.length];
+            int i = 0;
+            for (Byte field : termFields.values()) {
+                fields[i++] = field;
+            }
+        }
+
+        private static void addTerms(Map<String, Byte> termFields, String text, byte field) {
+            for (String term : SeminarSearchTokenizer.terms(text)) {
+                termFields.merge(term, field, (a, b) -> (byte) (a | b));
+            }
+        }
+
+        boolean matches(SeminarSearchCriteria criteria) {
+            return (criteria.getCategoryId() == null || criteria.getCategoryId().equals(categoryId))
+                    && (criteria.getStartDate() == null || !date.isBefore(criteria.getStartDate()))
+                    && (criteria.getEndDate() == null || !date.isAfter(criteria.getEndDate()))
+                    && (criteria.getIsClosed() == null || criteria.getIsClosed() == closed);
+        }
+
+        // 검색어별로 가장 높은 필드 가중치의 평균 (0 ~ 1)
+        float rank(Set<String> queryTerms) {
+            float sum = 0f;
+            for (String term : queryTerms) {
+                sum += weight(fieldsOf(term));
+            }
+            return sum / queryTerms.size();
+        }
+
+        private byte fieldsOf(String term) {
+            int position = Arrays.binarySearch(terms, term);
+            if (!SeminarSearchTokenizer.isPrefixTerm(term)) {
+                return position >= 0 ? fields[position] : 0;
+            }
+            byte result = 0;
+            for (int i = position >= 0 ? position : -position - 1; i < terms.length && terms[i].startsWith(term); i++) {
+                result |= fields[i];
+            }
+            return result;
+        }
+
+        private static float weight(byte fieldMask) {
+            if ((fieldMask & TITLE) != 0) {
+                return 1.0f;
+            }
+            if ((fieldMask & DESCRIPTION) != 0) {
+                return 0.4f;
+            }
+            return (fieldMask & LOCATION) != 0 ? 0.2f : 0f;
+        }
+    }
+}
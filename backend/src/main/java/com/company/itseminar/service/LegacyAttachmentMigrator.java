@@ -0,0 +1,98 @@
+package com.company.itseminar.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+// 예전 방식(file_attachments.file_data bytea 컬럼)으로 저장된 첨부파일 내용 처리
+// 이전 전에는 file_data 컬럼이 남아 있으므로, 기동 시 NOT NULL 제약만 풀어 새 업로드(해시만 저장)가 가능하게 하고
+// 아직 옮기지 않은 행은 다운로드 시 file_data에서 읽는다. 이전(attachment-migration 프로필)이 끝나면 컬럼을 삭제한다.
+@Service
+public class LegacyAttachmentMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyAttachmentMigrator.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void relaxLegacyColumn() {
+        if (hasLegacyColumn()) {
+            jdbcTemplate.execute("ALTER TABLE file_attachments ALTER COLUMN file_data DROP NOT NULL");
+            Long pending = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM file_attachments WHERE content_hash IS NULL", Long.class);
+            if (pending != null && pending > 0) {
+                log.warn("DB에 내용이 남아 있는 첨부파일 {}개 (attachment-migration 프로필로 이전 필요)", pending);
+            }
+        }
+    }
+
+    // 아직 이전하지 않은 첨부파일의 내용
+    public byte[] readLegacy(UUID attachmentId) {
+        List<byte[]> rows = jdbcTemplate.queryForList(
+                "SELECT file_data FROM file_attachments WHERE id = ? AND file_data IS NOT NULL",
+                byte[].class, attachmentId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("파일 내용을 찾을 수 없습니다");
+        }
+        return rows.get(0);
+    }
+
+    // DB의 내용을 한 행씩 저장소로 옮기고 (한 번에 파일 하나만 메모리에 올림) 모두 옮기면 file_data 컬럼 삭제
+    public int migrate() throws IOException {
+        if (!hasLegacyColumn()) {
+            log.info("이전할 첨부파일이 없습니다 (file_data 컬럼 없음)");
+            return 0;
+        }
+
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM file_attachments WHERE content_hash IS NULL", UUID.class);
+        int migrated = 0;
+        for (UUID id : ids) {
+            List<byte[]> rows = jdbcTemplate.queryForList(
+                    "SELECT file_data FROM file_attachments WHERE id = ? AND content_hash IS NULL AND file_data IS NOT NULL",
+                    byte[].class, id);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            AttachmentStorage.StoredContent stored = attachmentStorage.store(new ByteArrayInputStream(rows.get(0)));
+            jdbcTemplate.update(
+                    "UPDATE file_attachments SET content_hash = ?, file_size = ?, file_data = NULL WHERE id = ?",
+                    stored.getHash(), stored.getSize(), id);
+            migrated++;
+            if (migrated % 100 == 0) {
+                log.info("첨부파일 이전 중: {}/{}", migrated, ids.size());
+            }
+        }
+
+        Long remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM file_attachments WHERE content_hash IS NULL", Long.class);
+        if (remaining != null && remaining > 0) {
+            log.warn("내용이 없어 이전하지 못한 첨부파일 {}개 (file_data 컬럼 유지)", remaining);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE file_attachments DROP COLUMN file_data");
+        }
+        log.info("첨부파일 {}개를 저장소로 이전했습니다", migrated);
+        return migrated;
+    }
+
+    private boolean hasLegacyColumn() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = 'file_attachments' AND column_name = 'file_data'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
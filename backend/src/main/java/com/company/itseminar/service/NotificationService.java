@@ -0,0 +1,32 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.entity.Notification;
+import com.company.itseminar.event.WaitlistPromotedEvent;
+import com.company.itseminar.repository.NotificationRepository;
+import com.company.itseminar.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 사용자 알림 생성
+// 승급 트랜잭션이 커밋된 뒤 별도 스레드에서 처리하여 승급/취소 응답을 늦추지 않는다
+@Service
+public class NotificationService {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Async
+    @TransactionalEventListener
+    public void onWaitlistPromoted(WaitlistPromotedEvent event) {
+        notificationRepository.save(new Notification(
+                userRepository.getReferenceById(event.getUserId()),
+                event.getSeminarId(),
+                "대기 중이던 '" + event.getSeminarTitle() + "' 세미나에 자동으로 신청되었습니다"
+        ));
+    }
+}
@@ -0,0 +1,274 @@
+package com.company.itseminar.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 자주 받는 작은 첨부파일 내용 캐시 (자바 힙 밖)
+// 기동 시 max-bytes 크기의 직접 버퍼 하나를 page-size 단위 페이지로 나눠 쓰고, 항목은 페이지 번호 목록으로 보관한다.
+// 내용은 힙에 올리지 않으므로 캐시 크기가 GC 대상이 되지 않는다 (힙에는 항목별 작은 메타데이터만 남음).
+// 키는 내용 해시라서 내용이 바뀌는 일은 없고, 첨부파일 삭제 시 무효화한다.
+// 축출은 LRU이며, 한 번 받고 마는 파일이 자주 받는 파일을 밀어내지 않도록 두 번째 요청부터 적재한다.
+// 전송 중인 항목은 고정(pin)해 두고, 그 사이 축출되면 전송이 끝난 뒤 페이지를 반환한다.
+@Service
+public class OffHeapAttachmentCache {
+
+    private static final int COPY_CHUNK_SIZE = 16 * 1024;
+
+    // 한 번 요청된 해시 기록 (두 번째 요청에 적재)
+    private static final int MAX_CANDIDATES = 10000;
+
+    // 직접 버퍼 -> 응답 스트림 복사용 (요청 스레드별로 재사용)
+    private static final ThreadLocal<byte[]> COPY_CHUNK = ThreadLocal.withInitial(() -> new byte[COPY_CHUNK_SIZE]);
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Value("${seminar.attachments.cache.max-bytes:64MB}")
+    private DataSize maxBytes;
+
+    @Value("${seminar.attachments.cache.max-entry-size:4MB}")
+    private DataSize maxEntrySize;
+
+    @Value("${seminar.attachments.cache.page-size:64KB}")
+    private DataSize pageSize;
+
+    private ByteBuffer arena;
+    private int pageBytes;
+
+    // 빈 페이지 번호 스택
+    private int[] freePages;
+    private int freeCount;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Boolean> candidates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_CANDIDATES;
+        }
+    };
+
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    private long admissions;
+    private long evictions;
+    private long invalidations;
+    private long rejections;
+
+    @PostConstruct
+    public void init() {
+        pageBytes = (int) pageSize.toBytes();
+        int pages = (int) Math.min(maxBytes.toBytes() / pageBytes, Integer.MAX_VALUE / pageBytes);
+        arena = ByteBuffer.allocateDirect(pages * pageBytes);
+        freePages = new int[pages];
+        for (int i = 0; i < pages; i++) {
+            freePages[i] = pages - 1 - i;
+        }
+        freeCount = pages;
+    }
+
+    public boolean isCacheable(long length) {
+        return length > 0 && length <= maxEntrySize.toBytes() && length <= arena.capacity();
+    }
+
+    // 캐시된 항목을 고정해서 반환, 없으면 (두 번째 요청부터) 저장소에서 읽어 적재
+    // 캐시할 수 없으면 null이며, 반환된 항목은 전송 후 반드시 release 해야 한다
+    public Entry acquire(String hash, long length) throws IOException {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(hash);
+            if (entry != null) {
+                hits++;
+                entry.pins++;
+                return entry;
+            }
+            misses++;
+            if (candidates.remove(hash) == null) {
+                candidates.put(hash, Boolean.TRUE);
+                return null;
+            }
+            int[] pages = allocate((int) ((length + pageBytes - 1) / pageBytes));
+            if (pages == null) {
+                rejections++;
+                return null;
+            }
+            entry = new Entry(pages, (int) length);
+            entry.pins = 1;
+        }
+
+        // 저장소 읽기는 락 밖에서 (아직 맵에 없는 항목이라 다른 스레드가 보지 않음)
+        boolean loaded = false;
+        try {
+            load(hash, entry);
+            loaded = true;
+        } finally {
+            if (!loaded) {
+                synchronized (this) {
+                    entry.removed = true;
+                    release(entry);
+                }
+            }
+        }
+
+        synchronized (this) {
+            Entry existing = entries.get(hash);
+            if (existing != null) {
+                // 같은 내용을 동시에 적재한 경우 먼저 들어간 항목 사용
+                entry.removed = true;
+                release(entry);
+                existing.pins++;
+                return existing;
+            }
+            entries.put(hash, entry);
+            usedBytes += entry.length;
+            admissions++;
+            return entry;
+        }
+    }
+
+    public synchronized void release(Entry entry) {
+        entry.pins--;
+        if (entry.pins == 0 && entry.removed) {
+            for (int page : entry.pages) {
+                freePages[freeCount++] = page;
+            }
+        }
+    }
+
+    // 항목의 [start, end) 구간을 응답으로 전송 (acquire로 고정된 동안만 호출)
+    public void writeTo(Entry entry, long start, long end, OutputStream out) throws IOException {
+        byte[] chunk = COPY_CHUNK.get();
+        long position = start;
+        while (position < end) {
+            int page = entry.pages[(int) (position / pageBytes)];
+            int offset = (int) (position % pageBytes);
+            int length = (int) Math.min(Math.min(pageBytes - offset, end - position), chunk.length);
+            arena.get(page * pageBytes + offset, chunk, 0, length);
+            out.write(chunk, 0, length);
+            position += length;
+        }
+    }
+
+    public synchronized void invalidate(String hash) {
+        candidates.remove(hash);
+        Entry entry = entries.remove(hash);
+        if (entry != null) {
+            invalidations++;
+            remove(entry);
+        }
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        long requests = hits + misses;
+        stats.put("name", "attachments");
+        stats.put("size", entries.size());
+        stats.put("usedBytes", usedBytes);
+        stats.put("maxBytes", (long) arena.capacity());
+        stats.put("freeBytes", (long) freeCount * pageBytes);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", requests == 0 ? 0.0 : (double) hits / requests);
+        stats.put("admissions", admissions);
+        stats.put("evictions", evictions);
+        stats.put("invalidations", invalidations);
+        stats.put("rejections", rejections);
+        return stats;
+    }
+
+    // 필요한 페이지 수만큼 LRU 순으로 축출해 확보
+    // 전송 중인 항목은 축출해도 페이지가 바로 돌아오지 않으므로 건너뛰고,
+    // 그 밖의 항목을 모두 비워도 모자라면 아무것도 축출하지 않고 거절한다
+    private int[] allocate(int count) {
+        if (freeCount < count) {
+            long reclaimable = freeCount;
+            for (Entry entry : entries.values()) {
+                if (entry.pins == 0) {
+                    reclaimable += entry.pages.length;
+                }
+            }
+            if (reclaimable < count) {
+                return null;
+            }
+        }
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (freeCount < count) {
+            Entry entry = eldest.next();
+            if (entry.pins > 0) {
+                continue;
+            }
+            eldest.remove();
+            evictions++;
+            remove(entry);
+        }
+        int[] pages = new int[count];
+        for (int i = 0; i < count; i++) {
+            pages[i] = freePages[--freeCount];
+        }
+        return pages;
+    }
+
+    private void remove(Entry entry) {
+        usedBytes -= entry.length;
+        entry.removed = true;
+        if (entry.pins == 0) {
+            for (int page : entry.pages) {
+                freePages[freeCount++] = page;
+            }
+        }
+    }
+
+    // 저장소 내용을 페이지에 바로 읽어 들임 (로컬 파일은 FileChannel로 직접 버퍼에 읽음)
+    private void load(String hash, Entry entry) throws IOException {
+        Path file = attachmentStorage.localFile(hash);
+        try (ReadableByteChannel channel = file != null
+                ? FileChannel.open(file, StandardOpenOption.READ)
+                : Channels.newChannel(attachmentStorage.open(hash))) {
+            int remaining = entry.length;
+            for (int page : entry.pages) {
+                ByteBuffer target = arena.slice(page * pageBytes, Math.min(pageBytes, remaining));
+                while (target.hasRemaining()) {
+                    if (channel.read(target) < 0) {
+                        throw new IOException("첨부파일 내용이 메타데이터 크기보다 짧습니다: " + hash);
+                    }
+                }
+                remaining -= target.capacity();
+            }
+        }
+    }
+
+    public static class Entry {
+
+        private final int[] pages;
+        private final int length;
+
+        // 캐시 락 안에서만 변경
+        private int pins;
+        private boolean removed;
+
+        Entry(int[] pages, int length) {
+            this.pages = pages;
+            this.length = length;
+        }
+
+        public int getLength() {
+            return length;
+        }
+    }
+}
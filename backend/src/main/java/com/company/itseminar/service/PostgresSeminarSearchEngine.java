@@ -0,0 +1,67 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.dto.SeminarCursor;
+import com.company.itseminar.dto.SeminarSearchCriteria;
+import com.company.itseminar.dto.SeminarSearchHit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+// PostgreSQL 전문 검색 엔진 (search_vector GIN 인덱스 + ts_rank)
+// 스키마는 db/seminar-search.sql 참고
+@Service
+@ConditionalOnProperty(name = "seminar.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSeminarSearchEngine implements SeminarSearchEngine {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<SeminarSearchHit> search(SeminarSearchCriteria criteria, SeminarCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", criteria.getKeyword())
+                .addValue("cursorRank", after.getRank() != null ? after.getRank() : Float.MAX_VALUE)
+                .addValue("cursorDate", after.getDate())
+                .addValue("cursorId", after.getId())
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT id, seminar_date, rank FROM (")
+                .append(" SELECT s.id, s.seminar_date, ts_rank(s.search_vector, q) AS rank")
+                .append(" FROM seminars s, seminar_search_query(:keyword) q")
+                .append(" WHERE s.search_vector @@ q");
+
+        if (criteria.getCategoryId() != null) {
+            sql.append(" AND s.category_id = :categoryId");
+            params.addValue("categoryId", criteria.getCategoryId());
+        }
+        if (criteria.getStartDate() != null) {
+            sql.append(" AND s.seminar_date >= :startDate");
+            params.addValue("startDate", criteria.getStartDate());
+        }
+        if (criteria.getEndDate() != null) {
+            sql.append(" AND s.seminar_date <= :endDate");
+            params.addValue("endDate", criteria.getEndDate());
+        }
+        if (criteria.getIsClosed() != null) {
+            sql.append(" AND s.is_closed = :isClosed");
+            params.addValue("isClosed", criteria.getIsClosed());
+        }
+
+        sql.append(") m")
+                .append(" WHERE (rank, seminar_date, id) < (CAST(:cursorRank AS real), :cursorDate, :cursorId)")
+                .append(" ORDER BY rank DESC, seminar_date DESC, id DESC")
+                .append(" LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new SeminarSearchHit(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("seminar_date").toLocalDateTime(),
+                rs.getFloat("rank")
+        ));
+    }
+}
@@ -0,0 +1,231 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.dto.SeminarCursor;
+import com.company.itseminar.dto.SeminarDto;
+import com.company.itseminar.dto.SeminarSearchCriteria;
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.AttachmentChangedEvent;
+import com.company.itseminar.event.CategoryChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.company.itseminar.repository.SeminarApplicationRepository;
+import com.company.itseminar.repository.SeminarRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// 세미나 카탈로그 읽기 캐시
+// - 세미나별로 사용자와 무관한 DTO (신청자 수, 첨부파일 포함)
+// - 목록/카테고리/검색 페이지별 세미나 ID 목록 (정규화된 조건 + 커서 + 크기가 키)
+// 신청 여부와 마감/취소 가능 여부(현재 시각 기준)는 요청마다 덮어쓴다.
+// 세미나/신청/첨부파일 변경 이벤트로 영향받는 항목만 무효화한다.
+@Service
+public class SeminarCatalogCache {
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    @Autowired
+    private SeminarApplicationRepository seminarApplicationRepository;
+
+    @Autowired
+    private SeminarListAssembler seminarListAssembler;
+
+    @Value("${seminar.cache.max-seminars:5000}")
+    private int maxSeminars;
+
+    @Value("${seminar.cache.max-pages:1000}")
+    private int maxPages;
+
+    @Value("${seminar.cache.ttl:10m}")
+    private Duration ttl;
+
+    private BoundedCache<UUID, CachedSeminar> seminars;
+    private BoundedCache<PageKey, Page> pages;
+
+    @PostConstruct
+    public void init() {
+        seminars = new BoundedCache<>("seminars", maxSeminars, ttl);
+        pages = new BoundedCache<>("seminarPages", maxPages, ttl);
+    }
+
+    // 페이지(세미나 ID 목록)를 캐시에서 찾고, 없으면 loader로 조회한다
+    // scope: all | category | search, criteria는 all일 때 null
+    public Page getPage(String scope, SeminarSearchCriteria criteria, SeminarCursor after, int size, Supplier<Page> loader) {
+        return pages.getOrLoad(new PageKey(scope, criteria, after, size), key -> loader.get());
+    }
+
+    // ID 순서대로 세미나 DTO를 만든다 (캐시에 없는 세미나만 일괄 조회, 삭제된 세미나는 제외)
+    public List<SeminarDto> getSeminars(List<UUID> ids, User currentUser) {
+        List<SeminarDto> result = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, CachedSeminar> cached = seminars.getAll(ids, this::load);
+        Set<UUID> appliedSeminarIds = seminarApplicationRepository.findSeminarIdsByUser(currentUser);
+        LocalDateTime now = LocalDateTime.now();
+        for (UUID id : ids) {
+            CachedSeminar seminar = cached.get(id);
+            if (seminar != null) {
+                result.add(seminar.toDto(appliedSeminarIds.contains(id), now));
+            }
+        }
+        return result;
+    }
+
+    private Map<UUID, CachedSeminar> load(List<UUID> ids) {
+        List<Seminar> found = seminarRepository.findByIdIn(ids);
+        List<SeminarDto> dtos = seminarListAssembler.toBaseDtos(found);
+        Map<UUID, CachedSeminar> loaded = new HashMap<>();
+        for (int i = 0; i < found.size(); i++) {
+            loaded.put(found.get(i).getId(), new CachedSeminar(dtos.get(i), found.get(i).getIsClosed()));
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        switch (event.getChangeType()) {
+            // 마감 여부는 해당 세미나 항목에만 영향을 준다
+            case CLOSED, REOPENED -> seminars.invalidate(event.getSeminarId());
+            // 생성/삭제/수정(카테고리 이동)은 같은 카테고리 세미나들의 카테고리별 세미나 수도 바꾼다
+            default -> seminars.invalidateAll();
+        }
+        switch (event.getChangeType()) {
+            // 마감 여부는 isClosed 필터가 있는 검색 결과에만 영향을 준다
+            case CLOSED, REOPENED -> pages.invalidateIf(key -> key.isClosed != null);
+            // 생성/삭제/수정(날짜, 카테고리, 제목 등)은 어느 페이지에든 영향을 줄 수 있다
+            default -> pages.invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        seminars.invalidate(event.getSeminarId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttachmentChanged(AttachmentChangedEvent event) {
+        seminars.invalidate(event.getSeminarId());
+    }
+
+    // 세미나 DTO마다 카테고리 정보가 들어 있으므로 카테고리 변경 시 세미나 항목 전체를 비운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        seminars.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("seminars", seminars.stats());
+        stats.put("pages", pages.stats());
+        return stats;
+    }
+
+    // 캐시된 페이지: 세미나 ID 목록과 다음 페이지 커서
+    public static class Page {
+
+        private final List<UUID> seminarIds;
+        private final SeminarCursor nextCursor;
+
+        public Page(List<UUID> seminarIds, SeminarCursor nextCursor) {
+            this.seminarIds = List.copyOf(seminarIds);
+            this.nextCursor = nextCursor;
+        }
+
+        public List<UUID> getSeminarIds() {
+            return seminarIds;
+        }
+
+        public SeminarCursor getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    // 사용자와 무관한 세미나 DTO와 마감 플래그 원본 (마감 여부는 조회 시각 기준으로 다시 계산)
+    private static class CachedSeminar {
+
+        private final SeminarDto base;
+        private final boolean closed;
+
+        CachedSeminar(SeminarDto base, Boolean closed) {
+            this.base = base;
+            this.closed = Boolean.TRUE.equals(closed);
+        }
+
+        SeminarDto toDto(boolean userApplied, LocalDateTime now) {
+            SeminarDto dto = new SeminarDto(base);
+            boolean isClosed = closed || now.isAfter(base.getDate());
+            dto.setIsClosed(isClosed);
+            dto.setCanCancel(!isClosed && now.isBefore(base.getDate().minusHours(24)));
+            dto.setUserApplied(userApplied);
+            return dto;
+        }
+    }
+
+    // 페이지 캐시 키: 검색어는 소문자/공백 정규화, 커서는 디코딩된 값 기준
+    private static class PageKey {
+
+        private final String scope;
+        private final String keyword;
+        private final UUID categoryId;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final Boolean isClosed;
+        private final String cursor;
+        private final int size;
+
+        PageKey(String scope, SeminarSearchCriteria criteria, SeminarCursor after, int size) {
+            this.scope = scope;
+            this.keyword = criteria != null && criteria.hasKeyword()
+                    ? criteria.getKeyword().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ")
+                    : null;
+            this.categoryId = criteria != null ? criteria.getCategoryId() : null;
+            this.startDate = criteria != null ? criteria.getStartDate() : null;
+            this.endDate = criteria != null ? criteria.getEndDate() : null;
+            this.isClosed = criteria != null ? criteria.getIsClosed() : null;
+            this.cursor = after.encode();
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PageKey)) {
+                return false;
+            }
+            PageKey other = (PageKey) o;
+            return size == other.size
+                    && scope.equals(other.scope)
+                    && Objects.equals(keyword, other.keyword)
+                    && Objects.equals(categoryId, other.categoryId)
+                    && Objects.equals(startDate, other.startDate)
+                    && Objects.equals(endDate, other.endDate)
+                    && Objects.equals(isClosed, other.isClosed)
+                    && cursor.equals(other.cursor);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, keyword, categoryId, startDate, endDate, isClosed, cursor, size);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.AttachmentChangedEvent;
+import com.company.itseminar.event.CategoryChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.company.itseminar.repository.SeminarRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 세미나 카탈로그 버전 및 ETag 계산
+// 목록/카테고리 응답은 메모리 내 집계 버전으로, 상세 응답은 세미나 행의 버전/신청자 수/첨부파일 버전 컬럼으로 ETag를 만든다.
+// 마감/취소 가능 여부는 시간이 지나면 바뀌므로, 어떤 세미나가 그 경계(시작 24시간 전, 시작 시각)를 지날 때마다
+// 시각 버전을 올려 ETag에 포함한다.
+@Service
+public class SeminarCatalogVersion {
+
+    // 브라우저가 저장하되 매번 ETag로 재검증하도록 함 (Spring Security 기본값 no-store 대체)
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    // 서버 기동 시각: 재시작으로 메모리 버전이 0부터 다시 시작해도 이전 ETag와 겹치지 않도록 함
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // 세미나 목록에 보이는 값(세미나, 신청자 수, 첨부파일, 카테고리)이 바뀔 때마다 증가
+    private final AtomicLong seminarsVersion = new AtomicLong();
+
+    // 카테고리 목록에 보이는 값(카테고리, 카테고리별 세미나 수)이 바뀔 때마다 증가
+    private final AtomicLong categoriesVersion = new AtomicLong();
+
+    private long clockVersion;
+    private LocalDateTime nextTransition;
+
+    public String listETag(String username) {
+        return etag("l", seminarsVersion.get() + "." + clockVersion(LocalDateTime.now()), username);
+    }
+
+    // 세미나가 없으면 null (호출 측에서 기존 404 처리)
+    public String detailETag(UUID seminarId, String username) {
+        return seminarRepository.findVersionById(seminarId)
+                .map(view -> etag("d", view.getVersion() + "." + view.getApplicationCount() + "." + view.getAttachmentVersion()
+                        + "." + categoriesVersion.get() + "." + phase(view.getDate()), username))
+                .orElse(null);
+    }
+
+    public String categoriesETag() {
+        return etag("c", String.valueOf(categoriesVersion.get()), null);
+    }
+
+    // If-None-Match 헤더가 현재 ETag와 일치하는지 확인 (여러 값, *, 약한 비교 허용)
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String etag(String type, String version, String username) {
+        String user = username != null
+                ? "." + UUID.nameUUIDFromBytes(username.getBytes(StandardCharsets.UTF_8))
+                : "";
+        return "\"" + type + "." + epoch + "." + version + user + "\"";
+    }
+
+    // 세미나 한 건의 시간 단계: 0 = 취소 가능, 1 = 시작 24시간 이내, 2 = 종료
+    private static int phase(LocalDateTime date) {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isAfter(date)) {
+            return 2;
+        }
+        return now.isBefore(date.minusHours(24)) ? 0 : 1;
+    }
+
+    // 다음 경계 시각이 지났을 때만 DB에서 새 경계를 구한다
+    private synchronized long clockVersion(LocalDateTime now) {
+        if (nextTransition == null || !now.isBefore(nextTransition)) {
+            if (nextTransition != null) {
+                clockVersion++;
+            }
+            nextTransition = findNextTransition(now);
+        }
+        return clockVersion;
+    }
+
+    private LocalDateTime findNextTransition(LocalDateTime now) {
+        LocalDateTime next = LocalDateTime.MAX;
+        LocalDateTime nextStart = seminarRepository.findNextDateAfter(now);
+        if (nextStart != null) {
+            next = nextStart;
+        }
+        LocalDateTime nextCancelDeadline = seminarRepository.findNextDateAfter(now.plusHours(24));
+        if (nextCancelDeadline != null && nextCancelDeadline.minusHours(24).isBefore(next)) {
+            next = nextCancelDeadline.minusHours(24);
+        }
+        return next;
+    }
+
+    // 세미나 추가/수정 시 경계가 바뀔 수 있으므로 다음 조회 때 다시 계산
+    private synchronized void resetTransition() {
+        nextTransition = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        seminarsVersion.incrementAndGet();
+        switch (event.getChangeType()) {
+            case CREATED, UPDATED, DELETED -> {
+                categoriesVersion.incrementAndGet();
+                resetTransition();
+            }
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        seminarsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttachmentChanged(AttachmentChangedEvent event) {
+        seminarsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        seminarsVersion.incrementAndGet();
+        categoriesVersion.incrementAndGet();
+    }
+}
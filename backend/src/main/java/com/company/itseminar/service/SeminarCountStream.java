@@ -0,0 +1,361 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 세미나 상세 화면의 신청자 수 실시간 전송 (Server-Sent Events, /api/live/seminars/{id})
+// 연결마다 스레드를 잡지 않도록 비동기 서블릿 + 논블로킹 쓰기(WriteListener)로 보낸다.
+// 신청/취소 이벤트는 세미나 ID만 표시해 두고, 전송 주기마다 바뀐 세미나의 현재 값을 한 번 조회해
+// 같은 메시지(직렬화된 바이트)를 모든 구독자에게 보낸다. 신청이 몰려도 전송 주기당 세미나별 메시지는 하나다.
+// 느린 연결에는 아직 못 보낸 이전 값을 최신 값으로 바꿔치기하므로 연결당 버퍼는 메시지 하나로 제한된다.
+@Service
+public class SeminarCountStream {
+
+    private static final Logger log = LoggerFactory.getLogger(SeminarCountStream.class);
+
+    private static final byte[] KEEP_ALIVE = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final String COUNTS_SQL =
+            "SELECT id, application_count, capacity, is_closed FROM seminars WHERE id = ANY(?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 전송 주기 (이 간격 안의 변경은 하나의 메시지로 합쳐짐)
+    @Value("${seminar.live.interval:500ms}")
+    private Duration interval;
+
+    // 연결 유지 시간 (만료되면 브라우저 EventSource가 다시 연결)
+    @Value("${seminar.live.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${seminar.live.heartbeat:25s}")
+    private Duration heartbeat;
+
+    // 전체 동시 구독 상한 (초과하면 503)
+    @Value("${seminar.live.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final Set<UUID> changed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ScheduledExecutorService publisher;
+    // 전송 스레드에서만 사용
+    private long lastHeartbeatNanos = System.nanoTime();
+
+    @PostConstruct
+    public void init() {
+        publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seminar-live");
+            thread.setDaemon(true);
+            return thread;
+        });
+        publisher.scheduleAtFixedRate(this::publishSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        channels.values().forEach(channel -> channel.connections.forEach(Connection::close));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // 구독 시작: 현재 값을 바로 보낸 뒤 연결을 열어 둔다
+    public void subscribe(UUID seminarId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (subscriberCount.get() >= maxSubscribers) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        Channel existing = channels.get(seminarId);
+        byte[] current = existing != null ? existing.latest : null;
+        if (current == null) {
+            Map<UUID, byte[]> messages = loadMessages(List.of(seminarId));
+            current = messages.get(seminarId);
+            if (current == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+        }
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        // 프록시(nginx)가 응답을 모아 두지 않도록 함
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(timeout.toMillis());
+        Connection connection = new Connection(seminarId, asyncContext, response.getOutputStream());
+        asyncContext.addListener(connection);
+        subscriberCount.incrementAndGet();
+        Channel channel = channels.compute(seminarId, (id, value) -> {
+            Channel target = value != null ? value : new Channel();
+            target.connections.add(connection);
+            return target;
+        });
+        if (existing == null) {
+            channel.latest = current;
+            // 조회한 뒤 채널이 생기기 전까지의 변경은 표시되지 않았으므로 다음 전송 때 다시 조회
+            changed.add(seminarId);
+        }
+        connection.offer(current, true);
+        // 이 시점부터 논블로킹 모드: 쓸 수 있게 되면 컨테이너가 onWritePossible을 호출
+        response.getOutputStream().setWriteListener(connection);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (channels.containsKey(event.getSeminarId())) {
+            changed.add(event.getSeminarId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        if (channels.containsKey(event.getSeminarId())) {
+            changed.add(event.getSeminarId());
+        }
+    }
+
+    private void publishSafely() {
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            // 예외로 스케줄이 중단되지 않도록 기록만 한다
+            log.error("신청자 수 실시간 전송 실패", e);
+        }
+    }
+
+    private void publish() {
+        List<UUID> seminarIds = new ArrayList<>();
+        for (UUID seminarId : changed) {
+            changed.remove(seminarId);
+            if (channels.containsKey(seminarId)) {
+                seminarIds.add(seminarId);
+            }
+        }
+        if (!seminarIds.isEmpty()) {
+            Map<UUID, byte[]> messages = loadMessages(seminarIds);
+            for (UUID seminarId : seminarIds) {
+                Channel channel = channels.get(seminarId);
+                if (channel == null) {
+                    continue;
+                }
+                byte[] message = messages.get(seminarId);
+                if (message == null) {
+                    // 삭제된 세미나: 알리고 연결 종료
+                    byte[] deleted = event("deleted", "{\"seminarId\":\"" + seminarId + "\"}");
+                    channel.connections.forEach(connection -> connection.offerAndClose(deleted));
+                    continue;
+                }
+                // 값이 그대로면 보내지 않음 (구독 시작 직후 재조회, 신청자 수와 무관한 세미나 수정 등)
+                if (Arrays.equals(message, channel.latest)) {
+                    continue;
+                }
+                channel.latest = message;
+                channel.connections.forEach(connection -> connection.offer(message, true));
+            }
+        }
+
+        if (System.nanoTime() - lastHeartbeatNanos >= heartbeat.toNanos()) {
+            lastHeartbeatNanos = System.nanoTime();
+            channels.values().forEach(channel -> channel.connections.forEach(connection -> connection.offer(KEEP_ALIVE, false)));
+        }
+    }
+
+    // 세미나별 count 이벤트 메시지 (없는 세미나는 결과에 없음)
+    private Map<UUID, byte[]> loadMessages(List<UUID> seminarIds) {
+        Map<UUID, byte[]> messages = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(COUNTS_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", seminarIds.toArray()));
+            return ps;
+        }, rs -> {
+            UUID seminarId = rs.getObject("id", UUID.class);
+            int applicationCount = rs.getInt("application_count");
+            Integer capacity = (Integer) rs.getObject("capacity");
+            Map<String, Object> count = new HashMap<>();
+            count.put("seminarId", seminarId);
+            count.put("applicationCount", applicationCount);
+            count.put("capacity", capacity);
+            count.put("remaining", capacity != null ? Math.max(0, capacity - applicationCount) : null);
+            count.put("isClosed", rs.getBoolean("is_closed"));
+            try {
+                messages.put(seminarId, event("count", objectMapper.writeValueAsString(count)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return messages;
+    }
+
+    private static byte[] event(String name, String json) {
+        return ("event: " + name + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void remove(Connection connection) {
+        channels.computeIfPresent(connection.seminarId, (id, channel) -> {
+            if (channel.connections.remove(connection)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.connections.isEmpty() ? null : channel;
+        });
+    }
+
+    // 세미나 하나의 구독자 목록과 마지막으로 보낸 메시지 (새 구독자에게 조회 없이 보냄)
+    private static class Channel {
+
+        private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+        private volatile byte[] latest;
+    }
+
+    // 구독 연결 하나. 쓰기는 전송 스레드(offer)와 컨테이너 스레드(onWritePossible)에서 일어나므로 this로 동기화한다.
+    private class Connection implements WriteListener, AsyncListener {
+
+        private final UUID seminarId;
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+
+        // 아직 보내지 못한 메시지 (최신 값 하나만 유지)
+        private byte[] pending;
+        private boolean flushNeeded;
+        private boolean closeWhenDrained;
+        private boolean listening;
+        private boolean closed;
+
+        Connection(UUID seminarId, AsyncContext asyncContext, ServletOutputStream out) {
+            this.seminarId = seminarId;
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        // replace가 false면 보낼 메시지가 이미 있을 때 무시 (연결 확인용)
+        synchronized void offer(byte[] message, boolean replace) {
+            if (closed || (!replace && pending != null)) {
+                return;
+            }
+            pending = message;
+            write();
+        }
+
+        synchronized void offerAndClose(byte[] message) {
+            closeWhenDrained = true;
+            offer(message, true);
+        }
+
+        @Override
+        public synchronized void onWritePossible() {
+            listening = true;
+            write();
+        }
+
+        // 쓸 수 있는 동안만 쓰고, 막히면 다음 onWritePossible 호출에서 이어서 쓴다
+        private void write() {
+            if (!listening || closed) {
+                return;
+            }
+            try {
+                while (out.isReady()) {
+                    if (pending != null) {
+                        byte[] message = pending;
+                        pending = null;
+                        out.write(message);
+                        flushNeeded = true;
+                    } else if (flushNeeded) {
+                        flushNeeded = false;
+                        out.flush();
+                    } else {
+                        if (closeWhenDrained) {
+                            close();
+                        }
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remove(this);
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 연결
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            synchronized (this) {
+                closed = true;
+            }
+            remove(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
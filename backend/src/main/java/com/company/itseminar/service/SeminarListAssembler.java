@@ -0,0 +1,77 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.dto.FileAttachmentDto;
+import com.company.itseminar.dto.SeminarDto;
+import com.company.itseminar.entity.Category;
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.repository.FileAttachmentRepository;
+import com.company.itseminar.repository.SeminarRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 세미나 목록 DTO 조립기
+// 세미나마다 첨부파일과 카테고리별 세미나 수를 개별 조회하지 않고 목록 단위로 일괄 조회한다
+// (작성자/카테고리는 SeminarRepository의 EntityGraph로 함께 조회되고, 신청자 수는 seminars.application_count 컬럼)
+// 사용자와 무관한 값만 채우며, 신청 여부 등 사용자별 필드는 SeminarCatalogCache에서 요청마다 덮어쓴다
+@Service
+public class SeminarListAssembler {
+
+    @Autowired
+    private FileAttachmentRepository fileAttachmentRepository;
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    public List<SeminarDto> toBaseDtos(List<Seminar> seminars) {
+        if (seminars.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> seminarIds = seminars.stream()
+                .map(Seminar::getId)
+                .collect(Collectors.toList());
+
+        Map<UUID, List<FileAttachmentDto>> attachments = attachmentsBySeminar(seminarIds);
+        Map<UUID, Long> seminarCounts = seminarCountsByCategory(seminars.stream()
+                .map(Seminar::getCategory)
+                .filter(Objects::nonNull)
+                .map(Category::getId)
+                .collect(Collectors.toSet()));
+
+        return seminars.stream()
+                .map(seminar -> new SeminarDto(seminar, attachments.get(seminar.getId()),
+                        seminar.getCategory() != null ? seminarCounts.getOrDefault(seminar.getCategory().getId(), 0L) : null))
+                .collect(Collectors.toList());
+    }
+
+    // 카테고리별 세미나 수 (GROUP BY 한 번, Category.seminars 컬렉션을 로드하지 않음)
+    public Map<UUID, Long> seminarCountsByCategory(Collection<UUID> categoryIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        if (categoryIds.isEmpty()) {
+            return counts;
+        }
+        for (SeminarRepository.CategorySeminarCount count : seminarRepository.countByCategoryIds(categoryIds)) {
+            counts.put(count.getCategoryId(), count.getSeminarCount());
+        }
+        return counts;
+    }
+
+    // 세미나별 첨부파일 메타데이터 (파일 데이터 제외, 첨부파일이 없는 세미나는 키 없음)
+    public Map<UUID, List<FileAttachmentDto>> attachmentsBySeminar(Collection<UUID> seminarIds) {
+        if (seminarIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return fileAttachmentRepository.findMetadataBySeminarIds(seminarIds)
+                .stream()
+                .collect(Collectors.groupingBy(FileAttachmentDto::getSeminarId));
+    }
+}
@@ -0,0 +1,306 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 세미나 신청/취소 처리 (정원 초과 방지)
+// 1) 정원이 찬 것으로 알려진 세미나는 DB 조회 없이 거절
+// 2) 신청은 SQL 한 문장: 조건부 UPDATE로 좌석을 확보한 경우에만 신청 행 INSERT (SELECT 후 INSERT가 아니므로 동시 신청에도 초과 없음)
+// 3) 취소도 SQL 한 문장: 본인 여부와 24시간 규칙을 조건으로 DELETE 후 신청자 수 감소
+// 실패 사유는 같은 문장이 함께 돌려주는 세미나/신청 상태로 판단한다 (실패 시 추가 조회 없음)
+@Service
+public class SeminarRegistrationService {
+
+    public enum ApplyResult {
+        APPLIED(true, "세미나 신청이 완료되었습니다"),
+        ALREADY_APPLIED(false, "이미 신청한 세미나입니다"),
+        CLOSED(false, "마감된 세미나입니다"),
+        FULL(false, "정원이 마감되었습니다"),
+        // 이하 일괄 신청 전용
+        NOT_FOUND(false, "세미나를 찾을 수 없습니다"),
+        QUEUE_REQUIRED(false, "대기열 모드 세미나는 개별로 신청해주세요"),
+        NOT_APPLIED(false, "다른 세미나를 신청할 수 없어 신청하지 않았습니다");
+
+        private final boolean success;
+        private final String message;
+
+        ApplyResult(boolean success, String message) {
+            this.success = success;
+            this.message = message;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    public enum CancelResult {
+        CANCELLED(true, "세미나 신청이 취소되었습니다"),
+        NOT_OWNER(false, "본인의 신청만 취소할 수 있습니다"),
+        TOO_LATE(false, "세미나 시작 24시간 전까지만 취소할 수 있습니다"),
+        CLOSED(false, "마감된 세미나 또는 지난 세미나는 취소할 수 없습니다");
+
+        private final boolean success;
+        private final String message;
+
+        CancelResult(boolean success, String message) {
+            this.success = success;
+            this.message = message;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    // 좌석 확보 + 신청 행 INSERT + 실패 사유 판단용 상태 (마지막 SELECT는 변경 전 스냅샷을 본다)
+    // 좌석 확보 조건: 마감/종료 전, 정원 여유, 대기자 없음, 아직 신청하지 않음
+    private static final String APPLY_SQL =
+            "WITH applicant AS (" +
+            "    SELECT id, department FROM users WHERE username = ?" +
+            "), claim AS (" +
+            "    UPDATE seminars s SET application_count = s.application_count + 1" +
+            "    WHERE s.id = ? AND s.is_closed = false AND s.seminar_date > ?" +
+            "      AND (s.capacity IS NULL OR s.application_count < s.capacity)" +
+            "      AND NOT EXISTS (SELECT 1 FROM seminar_waitlist w WHERE w.seminar_id = s.id)" +
+            "      AND EXISTS (SELECT 1 FROM applicant)" +
+            "      AND NOT EXISTS (SELECT 1 FROM seminar_applications a, applicant" +
+            "                      WHERE a.seminar_id = s.id AND a.user_id = applicant.id)" +
+            "    RETURNING s.id" +
+            "), registered AS (" +
+            "    INSERT INTO seminar_applications (id, user_id, seminar_id, applied_at)" +
+            "    SELECT ?, applicant.id, claim.id, ? FROM claim, applicant" +
+            "    ON CONFLICT (user_id, seminar_id) DO NOTHING" +
+            "    RETURNING seminar_id" +
+            ") " +
+            "SELECT (SELECT id FROM applicant) AS user_id," +
+            "       (SELECT department FROM applicant) AS department," +
+            "       s.category_id," +
+            "       (SELECT COUNT(*) FROM claim) AS claimed," +
+            "       (SELECT COUNT(*) FROM registered) AS registered," +
+            "       s.id IS NOT NULL AS seminar_exists," +
+            "       COALESCE(s.is_closed OR s.seminar_date <= ?, false) AS closed," +
+            "       EXISTS (SELECT 1 FROM seminar_applications a, applicant" +
+            "               WHERE a.seminar_id = s.id AND a.user_id = applicant.id) AS already_applied " +
+            "FROM (SELECT 1) AS one LEFT JOIN seminars s ON s.id = ?";
+
+    // 같은 사용자의 동시 중복 신청으로 INSERT만 충돌한 경우 확보한 좌석 반납
+    private static final String RELEASE_SEAT_SQL =
+            "UPDATE seminars SET application_count = application_count - 1 " +
+            "WHERE id = ? AND application_count > 0";
+
+    // 본인 신청이고 세미나 시작 24시간 전이며 마감되지 않은 경우에만 DELETE, 삭제되면 신청자 수 감소
+    private static final String CANCEL_SQL =
+            "WITH target AS (" +
+            "    SELECT a.id, a.seminar_id, a.user_id, a.applied_at, u.username, u.department, s.category_id," +
+            "           s.is_closed, s.seminar_date" +
+            "    FROM seminar_applications a" +
+            "    JOIN users u ON u.id = a.user_id" +
+            "    JOIN seminars s ON s.id = a.seminar_id" +
+            "    WHERE a.id = ?" +
+            "), cancelled AS (" +
+            "    DELETE FROM seminar_applications a USING target t" +
+            "    WHERE a.id = t.id AND t.username = ? AND t.is_closed = false AND t.seminar_date > ?" +
+            "    RETURNING a.seminar_id" +
+            "), released AS (" +
+            "    UPDATE seminars s SET application_count = s.application_count - 1" +
+            "    FROM cancelled c WHERE s.id = c.seminar_id AND s.application_count > 0" +
+            "    RETURNING s.id" +
+            ") " +
+            "SELECT t.seminar_id, t.user_id, t.applied_at, t.username, t.department, t.category_id, t.is_closed," +
+            "       t.seminar_date," +
+            "       (SELECT COUNT(*) FROM cancelled) AS cancelled " +
+            "FROM (SELECT 1) AS one LEFT JOIN target t ON true";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 정원이 찬 세미나 ID (취소/세미나 변경 시 해제)
+    private final Set<UUID> soldOut = ConcurrentHashMap.newKeySet();
+
+    // 좌석 반납 횟수: 확보 실패 후 그 사이에 반납이 있었다면 정원 마감 표시를 하지 않기 위함
+    private long releases;
+
+    // 트랜잭션 없이 한 문장으로 실행 (자동 커밋), 이벤트 리스너는 fallbackExecution으로 바로 실행됨
+    public ApplyResult apply(String username, UUID seminarId) {
+        if (soldOut.contains(seminarId)) {
+            return ApplyResult.FULL;
+        }
+
+        long observedReleases = currentReleases();
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        ApplyRow row = jdbcTemplate.queryForObject(APPLY_SQL, (rs, rowNum) -> new ApplyRow(
+                        rs.getObject("user_id", UUID.class),
+                        rs.getString("department"),
+                        rs.getObject("category_id", UUID.class),
+                        rs.getLong("claimed") > 0,
+                        rs.getLong("registered") > 0,
+                        rs.getBoolean("seminar_exists"),
+                        rs.getBoolean("closed"),
+                        rs.getBoolean("already_applied")),
+                username, seminarId, nowTimestamp, UUID.randomUUID(), nowTimestamp, nowTimestamp, seminarId);
+
+        if (row.userId == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다");
+        }
+        if (row.registered) {
+            eventPublisher.publishEvent(new ApplicationChangedEvent(seminarId, row.userId, ApplicationChangedEvent.ChangeType.APPLIED,
+                    row.categoryId, row.department));
+            return ApplyResult.APPLIED;
+        }
+        if (row.claimed) {
+            jdbcTemplate.update(RELEASE_SEAT_SQL, seminarId);
+            return ApplyResult.ALREADY_APPLIED;
+        }
+        if (!row.seminarExists) {
+            throw new RuntimeException("세미나를 찾을 수 없습니다");
+        }
+        if (row.closed) {
+            return ApplyResult.CLOSED;
+        }
+        if (row.alreadyApplied) {
+            return ApplyResult.ALREADY_APPLIED;
+        }
+        markSoldOut(seminarId, observedReleases);
+        return ApplyResult.FULL;
+    }
+
+    // 실패 사유 판단 순서는 기존 취소 API와 같다 (없는 신청 → 본인 여부 → 24시간 규칙 → 마감/종료)
+    public CancelResult cancel(String username, UUID applicationId) {
+        LocalDateTime now = LocalDateTime.now();
+        CancelRow row = jdbcTemplate.queryForObject(CANCEL_SQL, (rs, rowNum) -> new CancelRow(
+                        rs.getObject("seminar_id", UUID.class),
+                        rs.getObject("user_id", UUID.class),
+                        rs.getTimestamp("applied_at"),
+                        rs.getString("username"),
+                        rs.getString("department"),
+                        rs.getObject("category_id", UUID.class),
+                        rs.getBoolean("is_closed"),
+                        rs.getTimestamp("seminar_date"),
+                        rs.getLong("cancelled") > 0),
+                applicationId, username, Timestamp.valueOf(now.plusHours(24)));
+
+        if (row.seminarId == null) {
+            throw new RuntimeException("신청을 찾을 수 없습니다");
+        }
+        if (row.cancelled) {
+            eventPublisher.publishEvent(new ApplicationChangedEvent(row.seminarId, row.userId,
+                    ApplicationChangedEvent.ChangeType.CANCELLED, row.categoryId, row.department, row.appliedAt.toLocalDateTime()));
+            return CancelResult.CANCELLED;
+        }
+        if (!row.username.equals(username)) {
+            return CancelResult.NOT_OWNER;
+        }
+        LocalDateTime seminarDate = row.seminarDate.toLocalDateTime();
+        if (!now.isBefore(seminarDate.minusHours(24))) {
+            return CancelResult.TOO_LATE;
+        }
+        return CancelResult.CLOSED;
+    }
+
+    // 정원이 찬 것으로 알려진 세미나인지 (대기열에서 DB 작업 없이 바로 거절할 때 사용)
+    public boolean isSoldOut(UUID seminarId) {
+        return soldOut.contains(seminarId);
+    }
+
+    private synchronized long currentReleases() {
+        return releases;
+    }
+
+    private synchronized void markSoldOut(UUID seminarId, long observedReleases) {
+        if (releases == observedReleases) {
+            soldOut.add(seminarId);
+        }
+    }
+
+    private synchronized void release(UUID seminarId) {
+        releases++;
+        soldOut.remove(seminarId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.getChangeType() != ApplicationChangedEvent.ChangeType.APPLIED) {
+            release(event.getSeminarId());
+        }
+    }
+
+    // 정원 변경, 마감 취소 등 세미나 변경 시 다시 DB로 판단
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        release(event.getSeminarId());
+    }
+
+    private static class ApplyRow {
+
+        private final UUID userId;
+        private final String department;
+        private final UUID categoryId;
+        private final boolean claimed;
+        private final boolean registered;
+        private final boolean seminarExists;
+        private final boolean closed;
+        private final boolean alreadyApplied;
+
+        ApplyRow(UUID userId, String department, UUID categoryId, boolean claimed, boolean registered, boolean seminarExists,
+                 boolean closed, boolean alreadyApplied) {
+            this.userId = userId;
+            this.department = department;
+            this.categoryId = categoryId;
+            this.claimed = claimed;
+            this.registered = registered;
+            this.seminarExists = seminarExists;
+            this.closed = closed;
+            this.alreadyApplied = alreadyApplied;
+        }
+    }
+
+    private static class CancelRow {
+
+        private final UUID seminarId;
+        private final UUID userId;
+        private final Timestamp appliedAt;
+        private final String username;
+        private final String department;
+        private final UUID categoryId;
+        private final boolean closed;
+        private final Timestamp seminarDate;
+        private final boolean cancelled;
+
+        CancelRow(UUID seminarId, UUID userId, Timestamp appliedAt, String username, String department, UUID categoryId,
+                  boolean closed, Timestamp seminarDate, boolean cancelled) {
+            this.seminarId = seminarId;
+            this.userId = userId;
+            this.appliedAt = appliedAt;
+            this.username = username;
+            this.department = department;
+            this.categoryId = categoryId;
+            this.closed = closed;
+            this.seminarDate = seminarDate;
+            this.cancelled = cancelled;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.dto.SeminarCursor;
+import com.company.itseminar.dto.SeminarSearchCriteria;
+import com.company.itseminar.dto.SeminarSearchHit;
+
+import java.util.List;
+
+// 키워드 세미나 검색 엔진
+// 결과는 관련도(rank) DESC, seminar_date DESC, id DESC 순이며 커서 이후의 행을 최대 limit개 반환한다
+public interface SeminarSearchEngine {
+
+    List<SeminarSearchHit> search(SeminarSearchCriteria criteria, SeminarCursor after, int limit);
+}
@@ -0,0 +1,52 @@
+package com.company.itseminar.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 세미나 검색어 분리기 (db/seminar-search.sql 의 seminar_search_terms 와 같은 규칙)
+// - 한글 연속 구간: 음절 바이그램 ("스프링" -> 스프, 프링), 한 글자면 그대로
+// - 영문/숫자 연속 구간: 단어 그대로
+public final class SeminarSearchTokenizer {
+
+    private static final Pattern TOKEN = Pattern.compile("[가-힣]+|[a-z0-9]+");
+
+    private SeminarSearchTokenizer() {}
+
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        Matcher matcher = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String word = matcher.group();
+            if (isHangul(word.charAt(0)) && word.length() > 1) {
+                for (int i = 0; i < word.length() - 1; i++) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            } else {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    // 검색어용: 중복 제거
+    public static Set<String> queryTerms(String keyword) {
+        return new LinkedHashSet<>(terms(keyword));
+    }
+
+    // 접두어로 매칭할 검색어인지 (영문/숫자 단어, 한 글자 한글)
+    public static boolean isPrefixTerm(String term) {
+        return !isHangul(term.charAt(0)) || term.length() == 1;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,404 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.entity.StatBucket.Dimension;
+import com.company.itseminar.entity.StatBucket.Granularity;
+import com.company.itseminar.entity.StatBucket.Metric;
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+// 대시보드 시계열 통계 (stat_buckets: 일/주/월 x 세미나 개최 수/신청 수 x 전체/카테고리/부서)
+// 세미나/신청 변경 이벤트에서 증감분을 메모리에 모았다가 주기적으로 한 번에 upsert한다
+// (신청이 몰릴 때 같은 집계 행을 매 요청마다 갱신하며 잠금 경합이 생기지 않도록).
+// 원본 테이블에서 전체를 다시 집계하는 rebuild는 테이블이 비어 있을 때 기동 시 자동으로, 또는
+// stats-backfill 프로필 / 대량 데이터 생성 후에만 실행된다. 세미나 삭제 시에는 함께 삭제될 신청 수를 삭제 트랜잭션 안에서 미리 읽어 뺀다.
+// 정상 종료 시에는 남은 증감분을 반영하고 끝나지만, 비정상 종료(프로세스 강제 종료, 장애) 시에는
+// 마지막 반영 이후(최대 flush-interval)의 증감분이 사라지고 스스로 복구되지 않으므로 stats-backfill 프로필로 재집계해야 한다.
+@Service
+public class StatRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatRollupService.class);
+
+    // 집계 대상 구분이 없을 때 (전체 합계, 카테고리/부서 미지정)
+    private static final String NO_KEY = "";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO stat_buckets (metric, granularity, dimension, bucket_start, dimension_key, count) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (metric, granularity, dimension, bucket_start, dimension_key) " +
+            "DO UPDATE SET count = stat_buckets.count + EXCLUDED.count";
+
+    // 기간 단위별로 원본 행을 한 번 읽어 전체/카테고리/부서 합계를 GROUPING SETS로 함께 구한다
+    private static final String REBUILD_SQL =
+            "INSERT INTO stat_buckets (metric, granularity, dimension, bucket_start, dimension_key, count) " +
+            "SELECT ?, b.granularity, " +
+            "       CASE WHEN GROUPING(b.category_key) = 0 THEN 'CATEGORY' " +
+            "            WHEN GROUPING(b.department) = 0 THEN 'DEPARTMENT' ELSE 'ALL' END, " +
+            "       b.bucket_start, " +
+            "       CASE WHEN GROUPING(b.category_key) = 0 THEN b.category_key " +
+            "            WHEN GROUPING(b.department) = 0 THEN b.department ELSE '' END, " +
+            "       COUNT(*) " +
+            "FROM (SELECT g.granularity, date_trunc(g.unit, r.at)::date AS bucket_start, r.category_key, r.department " +
+            "      FROM (%s) r " +
+            "      CROSS JOIN (VALUES ('DAY', 'day'), ('WEEK', 'week'), ('MONTH', 'month')) AS g (granularity, unit)) b " +
+            "GROUP BY GROUPING SETS ((b.granularity, b.bucket_start), " +
+            "                        (b.granularity, b.bucket_start, b.category_key), " +
+            "                        (b.granularity, b.bucket_start, b.department))";
+
+    private static final String SEMINAR_ROWS_SQL =
+            "SELECT s.seminar_date AS at, COALESCE(s.category_id::text, '') AS category_key, " +
+            "       COALESCE(u.department, '') AS department " +
+            "FROM seminars s JOIN users u ON u.id = s.created_by";
+
+    private static final String APPLICATION_ROWS_SQL =
+            "SELECT a.applied_at AS at, COALESCE(s.category_id::text, '') AS category_key, " +
+            "       COALESCE(u.department, '') AS department " +
+            "FROM seminar_applications a JOIN seminars s ON s.id = a.seminar_id JOIN users u ON u.id = a.user_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 아직 반영하지 않은 증감분
+    private Map<BucketKey, Long> pending = new HashMap<>();
+
+    // 반영(flush)과 재집계가 동시에 실행되지 않도록 함
+    private final Object flushLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        Boolean empty = jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM stat_buckets)", Boolean.class);
+        if (Boolean.TRUE.equals(empty)) {
+            rebuild();
+        }
+    }
+
+    // 전체 재집계: 기존 집계를 지우고 원본 테이블에서 다시 채운다 (한 트랜잭션, 조회는 커밋 전까지 이전 집계를 봄)
+    // 재집계 도중에 커밋된 변경은 양쪽에 반영될 수 있으므로, 쓰기가 적은 시간에 실행하는 것이 좋다.
+    public void rebuild() {
+        synchronized (flushLock) {
+            synchronized (this) {
+                pending = new HashMap<>();
+            }
+            long started = System.currentTimeMillis();
+            Integer rows = transactionTemplate.execute(status -> {
+                jdbcTemplate.update("DELETE FROM stat_buckets");
+                return jdbcTemplate.update(String.format(REBUILD_SQL, SEMINAR_ROWS_SQL), Metric.SEMINARS.name())
+                        + jdbcTemplate.update(String.format(REBUILD_SQL, APPLICATION_ROWS_SQL), Metric.APPLICATIONS.name());
+            });
+            log.info("시계열 통계 재집계: {}행 ({} ms)", rows, System.currentTimeMillis() - started);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seminar.stats.flush-interval:PT5S}")
+    public void flush() {
+        synchronized (flushLock) {
+            Map<BucketKey, Long> deltas;
+            synchronized (this) {
+                deltas = pending;
+                pending = new HashMap<>();
+            }
+            List<Object[]> batch = new ArrayList<>();
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) {
+                    batch.add(new Object[] {key.metric.name(), key.granularity.name(), key.dimension.name(),
+                            Date.valueOf(key.bucketStart), key.dimensionKey, delta});
+                }
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, batch));
+            } catch (RuntimeException e) {
+                // 반영하지 못한 증감분은 다음 주기에 다시 시도
+                synchronized (this) {
+                    deltas.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+                }
+                log.warn("시계열 통계 반영 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 종료 시 남은 증감분 반영 (진행 중인 주기적 반영이 있으면 flushLock에서 끝나기를 기다림)
+    @PreDestroy
+    public void flushOnShutdown() {
+        synchronized (flushLock) {
+            flush();
+        }
+    }
+
+    // 기간 [from, to]에 걸친 집계 (from은 해당 기간 단위의 시작일로 내림, 값이 없는 기간은 생략)
+    public List<Map<String, Object>> series(Metric metric, Granularity granularity, Dimension dimension,
+                                            LocalDate from, LocalDate to, String key) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT bucket_start, dimension_key, count FROM stat_buckets " +
+                "WHERE metric = ? AND granularity = ? AND dimension = ? AND bucket_start BETWEEN ? AND ? AND count <> 0");
+        List<Object> params = new ArrayList<>(List.of(metric.name(), granularity.name(), dimension.name(),
+                Date.valueOf(bucketStart(granularity, from)), Date.valueOf(to)));
+        if (key != null) {
+            sql.append(" AND dimension_key = ?");
+            params.add(key);
+        }
+        sql.append(" ORDER BY bucket_start, dimension_key");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            Map<String, Object> point = new HashMap<>();
+            point.put("bucket", rs.getDate("bucket_start").toLocalDate());
+            String dimensionKey = rs.getString("dimension_key");
+            point.put("key", dimensionKey.isEmpty() ? null : dimensionKey);
+            point.put("count", rs.getLong("count"));
+            return point;
+        }, params.toArray());
+    }
+
+    // 월별 전체 합계 (최근 월부터)
+    public List<Map<String, Object>> monthlyTotals(Metric metric) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, count FROM stat_buckets " +
+                "WHERE metric = ? AND granularity = 'MONTH' AND dimension = 'ALL' AND count <> 0 " +
+                "ORDER BY bucket_start DESC",
+                (rs, rowNum) -> {
+                    LocalDate month = rs.getDate("bucket_start").toLocalDate();
+                    Map<String, Object> stat = new HashMap<>();
+                    stat.put("year", month.getYear());
+                    stat.put("month", month.getMonthValue());
+                    stat.put("count", rs.getLong("count"));
+                    return stat;
+                },
+                metric.name());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        switch (event.getChangeType()) {
+            case APPLIED -> recordApplication(event, LocalDate.now(), 1);
+            case CANCELLED -> {
+                if (event.getAppliedAt() != null) {
+                    recordApplication(event, event.getAppliedAt().toLocalDate(), -1);
+                }
+            }
+            // 세미나별 카운터 보정은 신청 행 자체를 바꾸지 않음
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                SeminarRow seminar = findSeminar(event.getSeminarId());
+                if (seminar != null) {
+                    record(Metric.SEMINARS, seminar.date, seminar.categoryKey, seminar.department, 1);
+                }
+            }
+            case UPDATED -> {
+                if (event.getPreviousDate() != null) {
+                    onSeminarUpdated(event);
+                }
+            }
+            // 삭제는 recordSeminarDeletion에서 삭제 전에 반영
+            default -> {
+            }
+        }
+    }
+
+    // 일시나 카테고리가 바뀌면 세미나를 이전 기간/카테고리에서 빼서 새 위치로 옮기고,
+    // 카테고리가 바뀌면 그 세미나의 신청도 카테고리별 집계에서 옮긴다
+    private void onSeminarUpdated(SeminarChangedEvent event) {
+        SeminarRow seminar = findSeminar(event.getSeminarId());
+        if (seminar == null) {
+            return;
+        }
+        String previousCategoryKey = categoryKey(event.getPreviousCategoryId());
+        boolean categoryChanged = !previousCategoryKey.equals(seminar.categoryKey);
+        if (!categoryChanged && event.getPreviousDate().toLocalDate().equals(seminar.date)) {
+            return;
+        }
+        record(Metric.SEMINARS, event.getPreviousDate().toLocalDate(), previousCategoryKey, seminar.department, -1);
+        record(Metric.SEMINARS, seminar.date, seminar.categoryKey, seminar.department, 1);
+
+        if (categoryChanged) {
+            List<Object[]> days = jdbcTemplate.query(
+                    "SELECT applied_at::date AS day, COUNT(*) AS applications FROM seminar_applications " +
+                    "WHERE seminar_id = ? GROUP BY 1",
+                    (rs, rowNum) -> new Object[] {rs.getDate("day").toLocalDate(), rs.getLong("applications")},
+                    event.getSeminarId());
+            synchronized (this) {
+                for (Object[] day : days) {
+                    LocalDate date = (LocalDate) day[0];
+                    long count = (Long) day[1];
+                    add(Metric.APPLICATIONS, Dimension.CATEGORY, date, previousCategoryKey, -count);
+                    add(Metric.APPLICATIONS, Dimension.CATEGORY, date, seminar.categoryKey, count);
+                }
+            }
+        }
+    }
+
+    // 세미나 삭제 트랜잭션 안에서 삭제 전에 호출: 세미나와 함께 지워질 신청을 일/카테고리/부서별로 세어 커밋 후 집계에서 뺀다
+    // 세미나 행을 잠가 두므로 그 사이 좌석 확보(UPDATE seminars)로 시작하는 신청은 삭제가 끝날 때까지 기다렸다가 실패한다
+    public void recordSeminarDeletion(UUID seminarId) {
+        List<SeminarRow> locked = jdbcTemplate.query(
+                "SELECT s.seminar_date, COALESCE(s.category_id::text, '') AS category_key, " +
+                "       COALESCE(u.department, '') AS department " +
+                "FROM seminars s JOIN users u ON u.id = s.created_by WHERE s.id = ? FOR UPDATE OF s",
+                (rs, rowNum) -> new SeminarRow(rs.getTimestamp("seminar_date").toLocalDateTime().toLocalDate(),
+                        rs.getString("category_key"), rs.getString("department")),
+                seminarId);
+        if (locked.isEmpty()) {
+            return;
+        }
+        SeminarRow seminar = locked.get(0);
+        Map<BucketKey, Long> deltas = new HashMap<>();
+        addAll(deltas, Metric.SEMINARS, seminar.date, seminar.categoryKey, seminar.department, -1);
+        jdbcTemplate.query(
+                "SELECT a.applied_at::date AS day, COALESCE(u.department, '') AS department, COUNT(*) AS applications " +
+                "FROM seminar_applications a JOIN users u ON u.id = a.user_id WHERE a.seminar_id = ? GROUP BY 1, 2",
+                rs -> {
+                    addAll(deltas, Metric.APPLICATIONS, rs.getDate("day").toLocalDate(), seminar.categoryKey,
+                            rs.getString("department"), -rs.getLong("applications"));
+                },
+                seminarId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(deltas);
+                }
+            });
+        } else {
+            merge(deltas);
+        }
+    }
+
+    private synchronized void merge(Map<BucketKey, Long> deltas) {
+        deltas.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+    }
+
+    // 카테고리/부서는 이벤트에 실려 오므로 DB를 다시 읽지 않는다
+    private void recordApplication(ApplicationChangedEvent event, LocalDate date, long delta) {
+        String department = event.getDepartment() != null ? event.getDepartment() : NO_KEY;
+        record(Metric.APPLICATIONS, date, categoryKey(event.getCategoryId()), department, delta);
+    }
+
+    private synchronized void record(Metric metric, LocalDate date, String categoryKey, String department, long delta) {
+        addAll(pending, metric, date, categoryKey, department, delta);
+    }
+
+    private void add(Metric metric, Dimension dimension, LocalDate date, String dimensionKey, long delta) {
+        add(pending, metric, dimension, date, dimensionKey, delta);
+    }
+
+    private static void addAll(Map<BucketKey, Long> deltas, Metric metric, LocalDate date, String categoryKey,
+                               String department, long delta) {
+        add(deltas, metric, Dimension.ALL, date, NO_KEY, delta);
+        add(deltas, metric, Dimension.CATEGORY, date, categoryKey, delta);
+        add(deltas, metric, Dimension.DEPARTMENT, date, department, delta);
+    }
+
+    private static void add(Map<BucketKey, Long> deltas, Metric metric, Dimension dimension, LocalDate date,
+                            String dimensionKey, long delta) {
+        for (Granularity granularity : Granularity.values()) {
+            deltas.merge(new BucketKey(metric, granularity, dimension, bucketStart(granularity, date), dimensionKey),
+                    delta, Long::sum);
+        }
+    }
+
+    private SeminarRow findSeminar(UUID seminarId) {
+        List<SeminarRow> rows = jdbcTemplate.query(
+                "SELECT s.seminar_date, COALESCE(s.category_id::text, '') AS category_key, " +
+                "       COALESCE(u.department, '') AS department " +
+                "FROM seminars s JOIN users u ON u.id = s.created_by WHERE s.id = ?",
+                (rs, rowNum) -> new SeminarRow(rs.getTimestamp("seminar_date").toLocalDateTime().toLocalDate(),
+                        rs.getString("category_key"), rs.getString("department")),
+                seminarId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static String categoryKey(UUID categoryId) {
+        return categoryId != null ? categoryId.toString() : NO_KEY;
+    }
+
+    // date_trunc와 같은 기준 (주는 월요일 시작)
+    private static LocalDate bucketStart(Granularity granularity, LocalDate date) {
+        return switch (granularity) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static class SeminarRow {
+
+        private final LocalDate date;
+        private final String categoryKey;
+        private final String department;
+
+        SeminarRow(LocalDate date, String categoryKey, String department) {
+            this.date = date;
+            this.categoryKey = categoryKey;
+            this.department = department;
+        }
+    }
+
+    private static class BucketKey {
+
+        private final Metric metric;
+        private final Granularity granularity;
+        private final Dimension dimension;
+        private final LocalDate bucketStart;
+        private final String dimensionKey;
+
+        BucketKey(Metric metric, Granularity granularity, Dimension dimension, LocalDate bucketStart, String dimensionKey) {
+            this.metric = metric;
+            this.granularity = granularity;
+            this.dimension = dimension;
+            this.bucketStart = bucketStart;
+            this.dimensionKey = dimensionKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BucketKey other)) {
+                return false;
+            }
+            return metric == other.metric && granularity == other.granularity && dimension == other.dimension
+                    && bucketStart.equals(other.bucketStart) && dimensionKey.equals(other.dimensionKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, granularity, dimension, bucketStart, dimensionKey);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.company.itseminar.service;
+
+import com.company.itseminar.entity.Seminar;
+import com.company.itseminar.entity.SeminarApplication;
+import com.company.itseminar.entity.User;
+import com.company.itseminar.entity.WaitlistEntry;
+import com.company.itseminar.event.ApplicationChangedEvent;
+import com.company.itseminar.event.SeminarChangedEvent;
+import com.company.itseminar.event.WaitlistPromotedEvent;
+import com.company.itseminar.repository.SeminarApplicationRepository;
+import com.company.itseminar.repository.SeminarRepository;
+import com.company.itseminar.repository.WaitlistEntryRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+// 세미나 대기 신청 (FIFO)
+// 정원이 찬 세미나에 대기를 걸어두면, 취소가 커밋되는 즉시 먼저 대기한 순서대로 자동 신청된다.
+// 대기자가 있는 동안 빈 좌석은 직접 신청으로 가져갈 수 없으므로 목록을 새로고침하며 자리를 노릴 필요가 없다.
+@Service
+public class WaitlistService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+
+    public enum JoinResult {
+        JOINED(true, "대기 신청이 완료되었습니다"),
+        ALREADY_WAITING(false, "이미 대기 중인 세미나입니다"),
+        ALREADY_APPLIED(false, "이미 신청한 세미나입니다"),
+        CLOSED(false, "마감된 세미나입니다"),
+        SEATS_AVAILABLE(false, "남은 좌석이 있습니다. 바로 신청해주세요");
+
+        private final boolean success;
+        private final String message;
+
+        JoinResult(boolean success, String message) {
+            this.success = success;
+            this.message = message;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private enum Promotion {
+        PROMOTED,
+        SKIPPED,
+        NO_SEAT,
+        EMPTY
+    }
+
+    @Autowired
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Autowired
+    private SeminarRepository seminarRepository;
+
+    @Autowired
+    private SeminarApplicationRepository applicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 커밋 이후 리스너에서도 새 트랜잭션으로 실행되도록 REQUIRES_NEW
+    private TransactionTemplate promotionTemplate;
+
+    @PostConstruct
+    public void init() {
+        promotionTemplate = new TransactionTemplate(transactionManager);
+        promotionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public JoinResult join(User user, UUID seminarId) {
+        JoinResult result;
+        try {
+            result = transactionTemplate.execute(status -> register(user, seminarId));
+        } catch (DataIntegrityViolationException e) {
+            return JoinResult.ALREADY_WAITING;
+        }
+        // 좌석 확인 이후 대기 등록 커밋 전에 취소가 있었을 수 있으므로 한 번 더 승급 시도
+        if (result == JoinResult.JOINED) {
+            promote(seminarId);
+        }
+        return result;
+    }
+
+    private JoinResult register(User user, UUID seminarId) {
+        Seminar seminar = seminarRepository.findById(seminarId)
+                .orElseThrow(() -> new RuntimeException("세미나를 찾을 수 없습니다"));
+        if (seminar.getIsClosed() || seminar.isExpired()) {
+            return JoinResult.CLOSED;
+        }
+        if (applicationRepository.existsByUserAndSeminar(user, seminar)) {
+            return JoinResult.ALREADY_APPLIED;
+        }
+        if (waitlistRepository.findByUserAndSeminar(user, seminar).isPresent()) {
+            return JoinResult.ALREADY_WAITING;
+        }
+        boolean seatsLeft = seminar.getCapacity() == null || seminar.getApplicationCount() < seminar.getCapacity();
+        if (seatsLeft && !waitlistRepository.existsBySeminar(seminar)) {
+            return JoinResult.SEATS_AVAILABLE;
+        }
+        waitlistRepository.saveAndFlush(new WaitlistEntry(user, seminar));
+        return JoinResult.JOINED;
+    }
+
+    public boolean leave(User user, UUID seminarId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Optional<WaitlistEntry> entry = waitlistRepository.findByUserAndSeminar(user, seminarRepository.getReferenceById(seminarId));
+            entry.ifPresent(waitlistRepository::delete);
+            return entry.isPresent();
+        }));
+    }
+
+    // 대기 순번 (1부터)
+    public long getPosition(WaitlistEntry entry) {
+        return waitlistRepository.countAhead(entry.getSeminar().getId(), entry.getCreatedAt()) + 1;
+    }
+
+    // 빈 좌석이 없거나 대기자가 없을 때까지 한 명씩 각각의 트랜잭션으로 승급
+    // 커밋 이후에 호출되므로 실패해도 예외를 던지지 않는다 (남은 대기자는 다음 취소 때 승급)
+    public void promote(UUID seminarId) {
+        try {
+            while (true) {
+                Promotion promotion = promotionTemplate.execute(status -> promoteNext(seminarId));
+                if (promotion == Promotion.NO_SEAT || promotion == Promotion.EMPTY) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("대기 신청 승급 실패: seminar={}", seminarId, e);
+        }
+    }
+
+    private Promotion promoteNext(UUID seminarId) {
+        // 다른 승급 작업이 잠근 대기자는 건너뛰고 그다음 대기자를 잠근다
+        Optional<WaitlistEntry> next = waitlistRepository.lockNext(seminarId);
+        if (next.isEmpty()) {
+            return Promotion.EMPTY;
+        }
+        WaitlistEntry entry = next.get();
+        User user = entry.getUser();
+        Seminar seminar = entry.getSeminar();
+
+        // 대기 중에 다른 경로로 신청된 경우 대기만 정리
+        if (applicationRepository.existsByUserAndSeminar(user, seminar)) {
+            waitlistRepository.delete(entry);
+            return Promotion.SKIPPED;
+        }
+        if (seminarRepository.claimWaitlistSeat(seminarId, LocalDateTime.now()) == 0) {
+            return Promotion.NO_SEAT;
+        }
+
+        applicationRepository.save(new SeminarApplication(user, seminar));
+        waitlistRepository.delete(entry);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(seminarId, user.getId(), ApplicationChangedEvent.ChangeType.APPLIED,
+                seminar.getCategory() != null ? seminar.getCategory().getId() : null, user.getDepartment()));
+        eventPublisher.publishEvent(new WaitlistPromotedEvent(seminarId, seminar.getTitle(), user.getId()));
+        log.info("대기 신청 자동 확정: seminar={}, user={}", seminarId, user.getUsername());
+        return Promotion.PROMOTED;
+    }
+
+    // 취소 커밋 직후 승급 (보정 작업으로 신청자 수가 줄어든 경우 포함)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.getChangeType() != ApplicationChangedEvent.ChangeType.APPLIED) {
+            promote(event.getSeminarId());
+        }
+    }
+
+    // 정원 증가, 마감 취소 시 승급
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeminarChanged(SeminarChangedEvent event) {
+        if (event.getChangeType() == SeminarChangedEvent.ChangeType.UPDATED
+                || event.getChangeType() == SeminarChangedEvent.ChangeType.REOPENED) {
+            promote(event.getSeminarId());
+        }
+    }
+}
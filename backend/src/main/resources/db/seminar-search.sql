@@ -0,0 +1,52 @@
+-- 세미나 전문 검색 스키마 (PostgreSQL)
+-- 애플리케이션 시작 시 SeminarSearchSchemaInitializer가 실행하며, 여러 번 실행해도 안전하다.
+--
+-- 한국어는 형태소 분석기 없이 음절 바이그램(2-gram)으로 색인한다.
+--   "스프링부트" -> 스프 프링 링부 부트
+-- 영문/숫자는 단어 단위로 색인하고, 검색 시에는 접두어 매칭(:*)을 사용한다.
+--
+-- search_vector는 STORED 생성 컬럼이므로 seminar_search_terms를 변경한 경우
+-- 기존 행은 UPDATE seminars SET title = title 로 다시 계산해야 한다.
+
+CREATE OR REPLACE FUNCTION seminar_search_terms(input text) RETURNS text
+LANGUAGE plpgsql IMMUTABLE PARALLEL SAFE AS $$
+DECLARE
+    word text;
+    result text := '';
+    i int;
+BEGIN
+    IF input IS NULL THEN
+        RETURN '';
+    END IF;
+    FOR word IN SELECT m[1] FROM regexp_matches(lower(input), '([가-힣]+|[a-z0-9]+)', 'g') AS m LOOP
+        IF word ~ '^[가-힣]+$' AND char_length(word) > 1 THEN
+            FOR i IN 1 .. char_length(word) - 1 LOOP
+                result := result || ' ' || substr(word, i, 2);
+            END LOOP;
+        ELSE
+            result := result || ' ' || word;
+        END IF;
+    END LOOP;
+    RETURN result;
+END
+$$;
+
+-- 검색어를 tsquery로 변환 (모든 항을 AND, 영문/숫자 단어와 한 글자 한글은 접두어 매칭)
+CREATE OR REPLACE FUNCTION seminar_search_query(input text) RETURNS tsquery
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT to_tsquery('simple', string_agg(
+               term || CASE WHEN term ~ '^[a-z0-9]+$' OR char_length(term) = 1 THEN ':*' ELSE '' END,
+               ' & '))
+    FROM regexp_split_to_table(trim(seminar_search_terms(input)), ' ') AS term
+    WHERE term <> ''
+$$;
+
+-- 제목(A) > 설명(B) > 장소(C) 가중치로 유지되는 검색 벡터 컬럼과 GIN 인덱스
+ALTER TABLE seminars ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', seminar_search_terms(title)), 'A') ||
+        setweight(to_tsvector('simple', seminar_search_terms(description)), 'B') ||
+        setweight(to_tsvector('simple', seminar_search_terms(location)), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_seminars_search_vector ON seminars USING GIN (search_vector);
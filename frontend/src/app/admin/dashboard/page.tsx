@@ -44,6 +44,18 @@ interface RecentApplication {
   appliedAt: string;
 }
 
+// /api/dashboard/stream 의 dashboard 이벤트 (변경을 모아 보낸 묶음)
+interface DashboardUpdate {
+  stats: DashboardStats;
+  applied: number;
+  cancelled: number;
+  recentApplications: RecentApplication[];
+  applicationCounts: Record<string, number>;
+  seminars: RecentActivity[];
+  deletedSeminarIds: string[];
+  categoryStats?: CategoryStat[];
+}
+
 export default function AdminDashboard() {
   const [user, setUser] = useState<User | null>(null);
   const [stats, setStats] = useState<DashboardStats | null>(null);
@@ -105,6 +117,48 @@ export default function AdminDashboard() {
     fetchDashboardData();
   }, [router]);
 
+  // 처음 데이터를 받은 뒤에는 서버가 보내는 변경만 반영 (폴링 없음)
+  useEffect(() => {
+    if (user?.role !== "ADMIN") {
+      return;
+    }
+
+    const source = new EventSource("/api/dashboard/stream");
+    source.addEventListener("dashboard", (event) => {
+      const update: DashboardUpdate = JSON.parse((event as MessageEvent).data);
+
+      setStats(update.stats);
+      if (update.categoryStats) {
+        setCategoryStats(update.categoryStats);
+      }
+      if (update.recentApplications.length > 0) {
+        setRecentApplications((previous) => {
+          const ids = new Set(update.recentApplications.map((a) => a.id));
+          return [
+            ...update.recentApplications,
+            ...previous.filter((a) => !ids.has(a.id)),
+          ].slice(0, 10);
+        });
+      }
+      setRecentSeminars((previous) => {
+        const changed = new Map(update.seminars.map((s) => [s.id, s]));
+        const deleted = new Set(update.deletedSeminarIds);
+        const merged = previous
+          .filter((s) => !deleted.has(s.id) && !changed.has(s.id))
+          .map((s) =>
+            update.applicationCounts[s.id] !== undefined
+              ? { ...s, applicationCount: update.applicationCounts[s.id] }
+              : s
+          );
+        return [...merged, ...update.seminars]
+          .sort((a, b) => new Date(b.date).getTime() - new Date(a.date).getTime())
+          .slice(0, 10);
+      });
+    });
+
+    return () => source.close();
+  }, [user]);
+
   const formatDate = (dateString: string) => {
     return new Date(dateString).toLocaleString("ko-KR", {
       year: "numeric",
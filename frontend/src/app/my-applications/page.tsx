@@ -2,11 +2,23 @@
 
 import { useState, useEffect } from "react";
 import { useRouter } from "next/navigation";
-import { applicationAPI, authAPI } from "@/lib/api";
-import { SeminarApplication, User } from "@/types";
+import {
+  applicationAPI,
+  authAPI,
+  waitlistAPI,
+  notificationAPI,
+} from "@/lib/api";
+import {
+  SeminarApplication,
+  User,
+  WaitlistEntry,
+  Notification,
+} from "@/types";
 
 export default function MyApplicationsPage() {
   const [applications, setApplications] = useState<SeminarApplication[]>([]);
+  const [waitlist, setWaitlist] = useState<WaitlistEntry[]>([]);
+  const [notifications, setNotifications] = useState<Notification[]>([]);
   const [user, setUser] = useState<User | null>(null);
   const [loading, setLoading] = useState(true);
   const [cancelLoading, setCancelLoading] = useState<string | null>(null);
@@ -16,12 +28,17 @@ export default function MyApplicationsPage() {
   useEffect(() => {
     const fetchData = async () => {
       try {
-        const [currentUser, myApplications] = await Promise.all([
-          authAPI.getCurrentUser(),
-          applicationAPI.getMyApplications(),
-        ]);
+        const [currentUser, myApplications, myWaitlist, myNotifications] =
+          await Promise.all([
+            authAPI.getCurrentUser(),
+            applicationAPI.getMyApplications(),
+            waitlistAPI.getMyWaitlist(),
+            notificationAPI.getMyNotifications(),
+          ]);
         setUser(currentUser);
         setApplications(myApplications);
+        setWaitlist(myWaitlist);
+        setNotifications(myNotifications);
       } catch (err: any) {
         if (err.response?.status === 401) {
           router.push("/login");
@@ -66,6 +83,29 @@ export default function MyApplicationsPage() {
     }
   };
 
+  const handleLeaveWaitlist = async (entry: WaitlistEntry) => {
+    if (!window.confirm(`"${entry.seminarTitle}" 세미나 대기를 취소하시겠습니까?`))
+      return;
+
+    try {
+      await waitlistAPI.leaveWaitlist(entry.seminarId);
+      setWaitlist(await waitlistAPI.getMyWaitlist());
+    } catch (err: any) {
+      alert(err.response?.data?.message || "대기 취소에 실패했습니다.");
+    }
+  };
+
+  const handleReadNotification = async (notification: Notification) => {
+    if (!notification.isRead) {
+      await notificationAPI.markAsRead(notification.id);
+    }
+    if (notification.seminarId) {
+      router.push(`/seminars/${notification.seminarId}`);
+    } else {
+      setNotifications(await notificationAPI.getMyNotifications());
+    }
+  };
+
   const formatDate = (dateString: string) => {
     return new Date(dateString).toLocaleString("ko-KR", {
       year: "numeric",
@@ -195,6 +235,58 @@ export default function MyApplicationsPage() {
           </p>
         </div>
 
+        {/* 알림 (대기 신청 자동 확정 등) */}
+        {notifications.length > 0 && (
+          <div className="card mb-8 animate-fade-in">
+            <div className="card-content">
+              <h3 className="text-lg font-semibold text-gray-900 mb-4">🔔 알림</h3>
+              <ul className="space-y-2">
+                {notifications.map((notification) => (
+                  <li
+                    key={notification.id}
+                    onClick={() => handleReadNotification(notification)}
+                    className={`cursor-pointer text-sm ${
+                      notification.isRead ? "text-gray-500" : "text-gray-900 font-medium"
+                    }`}
+                  >
+                    {notification.message}
+                    <span className="ml-2 text-xs text-gray-400">
+                      {formatDate(notification.createdAt)}
+                    </span>
+                  </li>
+                ))}
+              </ul>
+            </div>
+          </div>
+        )}
+
+        {/* 대기 중인 세미나 */}
+        {waitlist.length > 0 && (
+          <div className="card mb-8 animate-fade-in">
+            <div className="card-content">
+              <h3 className="text-lg font-semibold text-gray-900 mb-4">⏳ 대기 중인 세미나</h3>
+              <ul className="space-y-3">
+                {waitlist.map((entry) => (
+                  <li key={entry.id} className="flex items-center justify-between text-sm">
+                    <span className="text-gray-900">
+                      {entry.seminarTitle}
+                      <span className="ml-2 text-gray-500">
+                        {formatDate(entry.seminarDate)} · 대기 {entry.position}번째
+                      </span>
+                    </span>
+                    <button
+                      onClick={() => handleLeaveWaitlist(entry)}
+                      className="text-red-600 hover:text-red-800 font-medium"
+                    >
+                      대기 취소
+                    </button>
+                  </li>
+                ))}
+              </ul>
+            </div>
+          </div>
+        )}
+
         {/* 신청 내역 목록 */}
         {applications.length === 0 ? (
           <div className="text-center py-16 animate-fade-in">
@@ -76,6 +76,8 @@ export default function EditSeminarPage() {
           date: dateForInput,
           location: seminarDetail.location,
           categoryId: seminarDetail.category?.id || "",
+          capacity: seminarDetail.capacity ?? undefined,
+          admissionQueue: seminarDetail.admissionQueue,
         });
       } catch (err: any) {
         if (err.response?.status === 401) {
@@ -263,7 +265,10 @@ export default function EditSeminarPage() {
               <p>📅 {formatDate(seminar.date)}</p>
               <p>📍 {seminar.location}</p>
               <p>👤 주최자: {seminar.createdBy.fullName}</p>
-              <p>👥 신청자: {seminar.applicationCount}명</p>
+              <p>
+                👥 신청자: {seminar.applicationCount}명
+                {seminar.capacity ? ` / 정원 ${seminar.capacity}명` : ""}
+              </p>
             </div>
           </div>
 
@@ -350,6 +355,49 @@ export default function EditSeminarPage() {
                 />
               </div>
 
+              <div>
+                <label
+                  htmlFor="capacity"
+                  className="block text-sm font-medium text-gray-700 mb-2"
+                >
+                  정원
+                </label>
+                <input
+                  type="number"
+                  id="capacity"
+                  name="capacity"
+                  min={Math.max(1, seminar.applicationCount)}
+                  value={formData.capacity ?? ""}
+                  onChange={(e) =>
+                    setFormData({
+                      ...formData,
+                      capacity: e.target.value ? Number(e.target.value) : undefined,
+                    })
+                  }
+                  className="w-full px-3 py-2 border border-gray-300 rounded-md shadow-sm focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-blue-500"
+                  placeholder="비워두면 제한 없음"
+                />
+              </div>
+
+              <div className="flex items-center">
+                <input
+                  type="checkbox"
+                  id="admissionQueue"
+                  name="admissionQueue"
+                  checked={formData.admissionQueue ?? false}
+                  onChange={(e) =>
+                    setFormData({ ...formData, admissionQueue: e.target.checked })
+                  }
+                  className="h-4 w-4 text-blue-600 border-gray-300 rounded focus:ring-blue-500"
+                />
+                <label
+                  htmlFor="admissionQueue"
+                  className="ml-2 block text-sm text-gray-700"
+                >
+                  대기열 모드 (신청이 몰릴 것으로 예상되는 세미나는 순서대로 처리)
+                </label>
+              </div>
+
               <div>
                 <label
                   htmlFor="categoryId"
@@ -2,8 +2,20 @@
 
 import { useState, useEffect } from "react";
 import { useRouter, useParams } from "next/navigation";
-import { seminarAPI, authAPI, applicationAPI, fileAPI } from "@/lib/api";
-import { Seminar, User, SeminarApplication } from "@/types";
+import {
+  seminarAPI,
+  authAPI,
+  applicationAPI,
+  waitlistAPI,
+  fileAPI,
+} from "@/lib/api";
+import {
+  Seminar,
+  User,
+  SeminarApplication,
+  QueueTicket,
+  WaitlistEntry,
+} from "@/types";
 
 export default function SeminarDetailPage() {
   const [seminar, setSeminar] = useState<Seminar | null>(null);
@@ -12,6 +24,10 @@ export default function SeminarDetailPage() {
     useState<SeminarApplication | null>(null);
   const [loading, setLoading] = useState(true);
   const [actionLoading, setActionLoading] = useState(false);
+  const [queuePosition, setQueuePosition] = useState<number | null>(null);
+  const [waitlistEntry, setWaitlistEntry] = useState<WaitlistEntry | null>(
+    null
+  );
   const [error, setError] = useState("");
   const router = useRouter();
   const params = useParams();
@@ -35,6 +51,12 @@ export default function SeminarDetailPage() {
             (app: SeminarApplication) => app.seminar.id === seminarId
           );
           setUserApplication(currentApplication || null);
+        } else {
+          // 대기 중인지 확인 (대기 순번 표시용)
+          const myWaitlist = await waitlistAPI.getMyWaitlist();
+          setWaitlistEntry(
+            myWaitlist.find((entry) => entry.seminarId === seminarId) || null
+          );
         }
       } catch (err: any) {
         if (err.response?.status === 401) {
@@ -52,12 +74,56 @@ export default function SeminarDetailPage() {
     }
   }, [seminarId, router]);
 
+  // 신청자 수/마감 여부 실시간 반영 (새로고침 없이)
+  useEffect(() => {
+    if (!seminarId) {
+      return;
+    }
+
+    const source = new EventSource(`/api/live/seminars/${seminarId}`);
+    source.addEventListener("count", (event) => {
+      const count = JSON.parse((event as MessageEvent).data);
+      setSeminar((previous) =>
+        previous
+          ? {
+              ...previous,
+              applicationCount: count.applicationCount,
+              capacity: count.capacity,
+              isClosed: count.isClosed,
+            }
+          : previous
+      );
+    });
+    source.addEventListener("deleted", () => source.close());
+
+    return () => source.close();
+  }, [seminarId]);
+
   const handleApply = async () => {
     if (!seminar || actionLoading) return;
 
     setActionLoading(true);
     try {
-      await applicationAPI.applySeminar(seminar.id);
+      let result = await applicationAPI.applySeminar(seminar.id);
+
+      // 대기열 모드 세미나: 처리될 때까지 대기표를 조회하며 순번 표시
+      if (result.queued) {
+        let ticket: QueueTicket = result;
+        while (ticket.status !== "DONE") {
+          setQueuePosition(ticket.position);
+          await new Promise((resolve) => setTimeout(resolve, 1000));
+          ticket = await applicationAPI.getQueueTicket(ticket.ticketId);
+        }
+        setQueuePosition(null);
+        if (!ticket.success) {
+          alert(ticket.message);
+          const refreshed = await seminarAPI.getSeminar(seminar.id);
+          setSeminar(refreshed);
+          return;
+        }
+        result = ticket;
+      }
+
       // 세미나 정보 다시 불러오기
       const updatedSeminar = await seminarAPI.getSeminar(seminar.id);
       setSeminar(updatedSeminar);
@@ -74,6 +140,48 @@ export default function SeminarDetailPage() {
       alert("세미나 신청이 완료되었습니다!");
     } catch (err: any) {
       alert(err.response?.data?.message || "세미나 신청에 실패했습니다.");
+    } finally {
+      setQueuePosition(null);
+      setActionLoading(false);
+    }
+  };
+
+  const handleJoinWaitlist = async () => {
+    if (!seminar || actionLoading) return;
+
+    setActionLoading(true);
+    try {
+      const result = await waitlistAPI.joinWaitlist(seminar.id);
+      const updatedSeminar = await seminarAPI.getSeminar(seminar.id);
+      setSeminar(updatedSeminar);
+      if (!result.promoted) {
+        const myWaitlist = await waitlistAPI.getMyWaitlist();
+        setWaitlistEntry(
+          myWaitlist.find((entry) => entry.seminarId === seminar.id) || null
+        );
+      }
+      alert(
+        result.promoted
+          ? result.message
+          : `${result.message} (대기 ${result.position}번째) 자리가 나면 자동으로 신청되고 알림을 보내드립니다.`
+      );
+    } catch (err: any) {
+      alert(err.response?.data?.message || "대기 신청에 실패했습니다.");
+    } finally {
+      setActionLoading(false);
+    }
+  };
+
+  const handleLeaveWaitlist = async () => {
+    if (!seminar || actionLoading) return;
+    if (!window.confirm("대기 신청을 취소하시겠습니까?")) return;
+
+    setActionLoading(true);
+    try {
+      await waitlistAPI.leaveWaitlist(seminar.id);
+      setWaitlistEntry(null);
+    } catch (err: any) {
+      alert(err.response?.data?.message || "대기 취소에 실패했습니다.");
     } finally {
       setActionLoading(false);
     }
@@ -306,13 +414,40 @@ export default function SeminarDetailPage() {
               {/* 신청 버튼 */}
               {!seminar.isClosed && !isExpired(seminar.date) && (
                 <div className="ml-6">
-                  {!seminar.isUserApplied ? (
+                  {!seminar.isUserApplied && waitlistEntry ? (
+                    <div className="text-center space-y-2">
+                      <p className="text-sm font-medium text-gray-700">
+                        대기 {waitlistEntry.position}번째
+                      </p>
+                      <button
+                        onClick={handleLeaveWaitlist}
+                        disabled={actionLoading}
+                        className="px-4 py-2 text-sm font-medium text-red-600 bg-red-50 border border-red-200 rounded-md hover:bg-red-100 disabled:opacity-50"
+                      >
+                        대기 취소
+                      </button>
+                    </div>
+                  ) : !seminar.isUserApplied &&
+                    seminar.capacity &&
+                    seminar.applicationCount >= seminar.capacity ? (
+                    <button
+                      onClick={handleJoinWaitlist}
+                      disabled={actionLoading}
+                      className="btn-primary disabled:bg-blue-400"
+                    >
+                      {actionLoading ? "대기 신청 중..." : "대기 신청"}
+                    </button>
+                  ) : !seminar.isUserApplied ? (
                     <button
                       onClick={handleApply}
                       disabled={actionLoading}
                       className="btn-primary disabled:bg-blue-400"
                     >
-                      {actionLoading ? "신청 중..." : "세미나 신청"}
+                      {queuePosition !== null
+                        ? `대기 중... (${queuePosition}번째)`
+                        : actionLoading
+                        ? "신청 중..."
+                        : "세미나 신청"}
                     </button>
                   ) : (
                     <div className="text-center space-y-2">
@@ -392,6 +527,7 @@ export default function SeminarDetailPage() {
                   </h3>
                   <p className="text-lg text-gray-900">
                     {seminar.applicationCount}명
+                    {seminar.capacity ? ` / 정원 ${seminar.capacity}명` : ""}
                   </p>
                 </div>
               </div>
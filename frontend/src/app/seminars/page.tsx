@@ -755,6 +755,9 @@ export default function SeminarsPage() {
                                 <div>
                                   <div className="font-medium text-gray-900">
                                     신청자 {seminar.applicationCount}명
+                                    {seminar.capacity
+                                      ? ` / 정원 ${seminar.capacity}명`
+                                      : ""}
                                   </div>
                                 </div>
                               </div>
@@ -6,6 +6,9 @@ import {
   Seminar,
   SeminarCreateRequest,
   FileAttachment,
+  QueueTicket,
+  WaitlistEntry,
+  Notification,
 } from "@/types";
 
 const api = axios.create({
@@ -36,9 +39,29 @@ export const authAPI = {
 
 // 세미나 API
 export const seminarAPI = {
+  // 커서 기반 페이지 조회 (다음 페이지 커서는 X-Next-Cursor 헤더)
+  getSeminarPage: async (
+    cursor?: string,
+    size = 100
+  ): Promise<{ seminars: Seminar[]; nextCursor?: string }> => {
+    const response = await api.get("/api/seminars", {
+      params: { cursor, size },
+    });
+    return {
+      seminars: response.data,
+      nextCursor: response.headers["x-next-cursor"],
+    };
+  },
+
   getAllSeminars: async (): Promise<Seminar[]> => {
-    const response = await api.get("/api/seminars");
-    return response.data;
+    const seminars: Seminar[] = [];
+    let cursor: string | undefined;
+    do {
+      const page = await seminarAPI.getSeminarPage(cursor);
+      seminars.push(...page.seminars);
+      cursor = page.nextCursor;
+    } while (cursor);
+    return seminars;
   },
 
   getSeminar: async (id: string): Promise<Seminar> => {
@@ -81,8 +104,21 @@ export const seminarAPI = {
 
 // 신청 API
 export const applicationAPI = {
-  applySeminar: async (seminarId: string) => {
-    const response = await api.post("/api/applications", { seminarId });
+  // 클릭 한 번에 키 하나: 시간 초과로 다시 보내도 서버가 같은 응답을 돌려줌
+  applySeminar: async (
+    seminarId: string,
+    idempotencyKey: string = crypto.randomUUID()
+  ) => {
+    const response = await api.post(
+      "/api/applications",
+      { seminarId },
+      { headers: { "Idempotency-Key": idempotencyKey } }
+    );
+    return response.data;
+  },
+
+  getQueueTicket: async (ticketId: string): Promise<QueueTicket> => {
+    const response = await api.get(`/api/applications/queue/${ticketId}`);
     return response.data;
   },
 
@@ -99,6 +135,37 @@ export const applicationAPI = {
   },
 };
 
+// 대기 신청 API
+export const waitlistAPI = {
+  joinWaitlist: async (seminarId: string) => {
+    const response = await api.post("/api/waitlist", { seminarId });
+    return response.data;
+  },
+
+  leaveWaitlist: async (seminarId: string) => {
+    const response = await api.delete(`/api/waitlist/${seminarId}`);
+    return response.data;
+  },
+
+  getMyWaitlist: async (): Promise<WaitlistEntry[]> => {
+    const response = await api.get("/api/waitlist/my");
+    return response.data;
+  },
+};
+
+// 알림 API
+export const notificationAPI = {
+  getMyNotifications: async (): Promise<Notification[]> => {
+    const response = await api.get("/api/notifications/my");
+    return response.data;
+  },
+
+  markAsRead: async (id: string) => {
+    const response = await api.put(`/api/notifications/${id}/read`);
+    return response.data;
+  },
+};
+
 // 파일 첨부 API
 export const fileAPI = {
   uploadFiles: async (
@@ -31,6 +31,8 @@ export interface Seminar {
   createdAt: string;
   attachments?: FileAttachment[];
   applicationCount: number;
+  capacity?: number | null;
+  admissionQueue?: boolean;
   isUserApplied: boolean;
   canCancel: boolean;
   category?: Category;
@@ -42,6 +44,37 @@ export interface SeminarCreateRequest {
   date: string;
   location: string;
   categoryId?: string;
+  capacity?: number;
+  admissionQueue?: boolean;
+}
+
+// 대기열 모드 세미나 신청 시 발급되는 대기표
+export interface QueueTicket {
+  success: boolean;
+  queued: boolean;
+  ticketId: string;
+  seminarId: string;
+  status: "WAITING" | "PROCESSING" | "DONE";
+  position: number;
+  message: string;
+}
+
+// 대기 신청 (position: 대기 순번)
+export interface WaitlistEntry {
+  id: string;
+  seminarId: string;
+  seminarTitle: string;
+  seminarDate: string;
+  position: number;
+  createdAt: string;
+}
+
+export interface Notification {
+  id: string;
+  seminarId?: string;
+  message: string;
+  isRead: boolean;
+  createdAt: string;
 }
 
 export interface FileAttachment {